@@ -27,5 +27,7 @@ public class SampleApp extends Application {
             }
         });
 
+        // build gson off the main thread
+        Common.warmUp();
     }
 }
@@ -0,0 +1,117 @@
+package com.github.lykmapipo.common.benchmarks;
+
+import androidx.collection.ArrayMap;
+import androidx.collection.ArraySet;
+
+import com.github.lykmapipo.common.Common;
+import com.github.lykmapipo.common.util.AdaptiveMap;
+import com.github.lykmapipo.common.util.AdaptiveSet;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Locate array vs hashed storage crossover of {@link Common.Value#setOf(Object[])}
+ * and {@link Common.Value#mapOf(Map[])}.
+ * <p>
+ * Sizes around {@link AdaptiveSet#THRESHOLD} show the crossover, small sizes
+ * show that adaptive collections cost the same as plain array collections.
+ *
+ * @since 0.12.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AdaptiveCollectionsBenchmark {
+    @Param({"8", "32", "128", "512", "2048", "8192"})
+    public int size;
+
+    private String[] elements;
+    private Map<String, String> left;
+    private Map<String, String> right;
+    private Map<String, String>[] halves;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        elements = new String[size];
+        left = new HashMap<String, String>();
+        right = new HashMap<String, String>();
+        for (int i = 0; i < size; i++) {
+            elements[i] = "element-" + i;
+            (i % 2 == 0 ? left : right).put(elements[i], elements[i]);
+        }
+        halves = new Map[]{left, right};
+    }
+
+    @Benchmark
+    public Set<String> setOfArray() {
+        Set<String> set = new ArraySet<String>();
+        Collections.addAll(set, elements);
+        return set;
+    }
+
+    @Benchmark
+    public Set<String> setOfHashed() {
+        Set<String> set = new HashSet<String>();
+        Collections.addAll(set, elements);
+        return set;
+    }
+
+    @Benchmark
+    public Set<String> setOfAdaptive() {
+        return Common.Value.setOf(elements);
+    }
+
+    @Benchmark
+    public Set<String> growAdaptive() {
+        Set<String> set = new AdaptiveSet<String>();
+        for (String element : elements) {
+            set.add(element);
+        }
+        return set;
+    }
+
+    @Benchmark
+    public Map<String, String> mergeArray() {
+        Map<String, String> map = new ArrayMap<String, String>();
+        map.putAll(left);
+        map.putAll(right);
+        return map;
+    }
+
+    @Benchmark
+    public Map<String, String> mergeHashed() {
+        Map<String, String> map = new HashMap<String, String>();
+        map.putAll(left);
+        map.putAll(right);
+        return map;
+    }
+
+    @Benchmark
+    public Map<String, String> mergeAdaptive() {
+        return Common.Value.mapOf(halves);
+    }
+
+    @Benchmark
+    public Map<String, String> growAdaptiveMap() {
+        Map<String, String> map = new AdaptiveMap<String, String>();
+        for (String element : elements) {
+            map.put(element, element);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.lykmapipo.common.benchmarks;
+
+import com.github.lykmapipo.common.Common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare merging pages by copying against concatenated views of
+ * {@link Common.Value#concatOf(List[])}.
+ *
+ * @since 0.12.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConcatBenchmark {
+    @Param({"20", "1000"})
+    public int pageSize;
+
+    private List<String> first;
+    private List<String> second;
+
+    @Setup
+    public void setup() {
+        first = new ArrayList<String>();
+        second = new ArrayList<String>();
+        for (int i = 0; i < pageSize; i++) {
+            first.add("first-" + i);
+            second.add("second-" + i);
+        }
+    }
+
+    @Benchmark
+    public List<String> mergeCopy() {
+        List<String> merged = new ArrayList<String>(first.size() + second.size());
+        merged.addAll(first);
+        merged.addAll(second);
+        return merged;
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<String> mergeView() {
+        return Common.Value.concatOf(first, second);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public int mergeViewAndIterate() {
+        int length = 0;
+        for (String value : Common.Value.concatOf(first, second)) {
+            length += value.length();
+        }
+        return length;
+    }
+}
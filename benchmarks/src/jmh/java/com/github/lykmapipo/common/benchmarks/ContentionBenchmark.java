@@ -0,0 +1,146 @@
+package com.github.lykmapipo.common.benchmarks;
+
+import com.github.lykmapipo.common.Common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure throughput of {@link Common} helpers as thread count grows.
+ * <p>
+ * Pure helpers must scale with threads; a flat curve means callers
+ * are queueing on a shared monitor.
+ *
+ * @since 0.12.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContentionBenchmark {
+    private List<String> parts;
+    private Map<String, Integer> value;
+    private Date date;
+
+    @Setup
+    public void setup() {
+        parts = Arrays.asList("alpha", "beta", "gamma", "alpha", "delta");
+        value = Common.Value.mapOf("price", 128);
+        date = new Date(1548968001000L);
+    }
+
+    // Value.valueOr
+
+    @Benchmark
+    @Threads(1)
+    public Object valueOr_1() {
+        return Common.Value.valueOr(null, date);
+    }
+
+    @Benchmark
+    @Threads(2)
+    public Object valueOr_2() {
+        return Common.Value.valueOr(null, date);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object valueOr_4() {
+        return Common.Value.valueOr(null, date);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object valueOr_8() {
+        return Common.Value.valueOr(null, date);
+    }
+
+    // Value.toJson
+
+    @Benchmark
+    @Threads(1)
+    public String toJson_1() {
+        return Common.Value.toJson(value);
+    }
+
+    @Benchmark
+    @Threads(2)
+    public String toJson_2() {
+        return Common.Value.toJson(value);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String toJson_4() {
+        return Common.Value.toJson(value);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String toJson_8() {
+        return Common.Value.toJson(value);
+    }
+
+    // Strings.join
+
+    @Benchmark
+    @Threads(1)
+    public String join_1() {
+        return Common.Strings.join(",", parts, true);
+    }
+
+    @Benchmark
+    @Threads(2)
+    public String join_2() {
+        return Common.Strings.join(",", parts, true);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String join_4() {
+        return Common.Strings.join(",", parts, true);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String join_8() {
+        return Common.Strings.join(",", parts, true);
+    }
+
+    // Dates.format
+
+    @Benchmark
+    @Threads(1)
+    public String format_1() {
+        return Common.Dates.format(date, "dd MMM yyyy");
+    }
+
+    @Benchmark
+    @Threads(2)
+    public String format_2() {
+        return Common.Dates.format(date, "dd MMM yyyy");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String format_4() {
+        return Common.Dates.format(date, "dd MMM yyyy");
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String format_8() {
+        return Common.Dates.format(date, "dd MMM yyyy");
+    }
+}
@@ -0,0 +1,281 @@
+package com.github.lykmapipo.common.benchmarks;
+
+import com.github.lykmapipo.common.Common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure {@link Common.Dates} parsing and formatting, against uncached formatters,
+ * day arithmetic on dates against epoch milliseconds, calendar fields per
+ * field against a single pass, display names against cached tables, and
+ * relative time labels against formatting on each bind, and sectioning of
+ * sorted times against a calendar per item.
+ *
+ * @since 0.12.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DatesBenchmark {
+    private static final String FORMAT = "dd MMM yyyy HH:mm:ss";
+
+    private static final int[] FIELDS = {Calendar.YEAR, Calendar.MONTH, Calendar.DAY_OF_MONTH,
+            Calendar.HOUR_OF_DAY, Calendar.MINUTE, Calendar.SECOND};
+
+    private Date date;
+    private String formatted;
+    private long[] times;
+    private Common.Dates.Fields fields;
+    private Common.Dates.FieldArrays fieldArrays;
+    private long now;
+    private long[] visible;
+
+    @Setup
+    public void setup() {
+        date = new Date(1548968001000L);
+        formatted = Common.Dates.format(date, FORMAT);
+        times = new long[1000];
+        for (int i = 0; i < times.length; i++) {
+            times[i] = date.getTime() + i * 600000L;
+        }
+        fields = new Common.Dates.Fields();
+        fieldArrays = new Common.Dates.FieldArrays(times.length);
+        now = System.currentTimeMillis();
+        visible = new long[20];
+        for (int i = 0; i < visible.length; i++) {
+            visible[i] = now - (2 + i) * 86400000L;
+        }
+    }
+
+    @Benchmark
+    public Date parse() {
+        return Common.Dates.parse(formatted, FORMAT);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Date parseConcurrent() {
+        return Common.Dates.parse(formatted, FORMAT);
+    }
+
+    @Benchmark
+    public String format() {
+        return Common.Dates.format(date, FORMAT);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String formatConcurrent() {
+        return Common.Dates.format(date, FORMAT);
+    }
+
+    @Benchmark
+    public Date parseUncached() throws ParseException {
+        // baseline, formatter per call as before cached formatters
+        return new SimpleDateFormat(FORMAT, Locale.getDefault()).parse(formatted);
+    }
+
+    @Benchmark
+    public String formatUncached() {
+        return new SimpleDateFormat(FORMAT, Locale.getDefault()).format(date);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String formatUncachedConcurrent() {
+        return new SimpleDateFormat(FORMAT, Locale.getDefault()).format(date);
+    }
+
+    @Benchmark
+    public int formatList() {
+        // render a list of timestamped items
+        int length = 0;
+        for (int i = 0; i < 500; i++) {
+            length += Common.Dates.format(new Date(date.getTime() + i * 60000L), FORMAT).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public Date clearTimeDate() {
+        return Common.Dates.clearTime(date);
+    }
+
+    @Benchmark
+    public long clearTimeMillis() {
+        return Common.Dates.clearTime(date.getTime());
+    }
+
+    @Benchmark
+    public Date tomorrowOfDate() {
+        return Common.Dates.tomorrowOf(date);
+    }
+
+    @Benchmark
+    public long tomorrowOfMillis() {
+        return Common.Dates.tomorrowOf(date.getTime());
+    }
+
+    @Benchmark
+    public int groupListByDay() {
+        // count day sections of a list of timestamped items
+        int sections = 0;
+        long previous = Long.MIN_VALUE;
+        for (int i = 0; i < 500; i++) {
+            long day = Common.Dates.clearTime(date.getTime() + i * 600000L);
+            if (day != previous) {
+                sections++;
+                previous = day;
+            }
+        }
+        return sections;
+    }
+
+    @Benchmark
+    public int fieldsPerCalendar() {
+        // baseline, a calendar per field as before single pass fields
+        int sum = 0;
+        for (long time : times) {
+            for (int field : FIELDS) {
+                Calendar calendar = Calendar.getInstance();
+                calendar.setTimeInMillis(time);
+                sum += calendar.get(field);
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int fieldsOf() {
+        int sum = 0;
+        for (long time : times) {
+            Common.Dates.fieldsOf(time, fields);
+            sum += fields.getYear() + fields.getMonth() + fields.getDayOfMonth()
+                    + fields.getHourOfDay() + fields.getMinute() + fields.getSecond();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Common.Dates.FieldArrays fieldsOfTimes() {
+        return Common.Dates.fieldsOf(times, fieldArrays);
+    }
+
+    @Benchmark
+    public String displayNameCalendar() {
+        // baseline, calendar lookup per call as before name tables
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTime(date);
+        return calendar.getDisplayName(Calendar.MONTH, Calendar.LONG, Locale.getDefault());
+    }
+
+    @Benchmark
+    public String displayName() {
+        return Common.Dates.monthDisplayNameOf(date.getTime(), Calendar.LONG);
+    }
+
+    @Benchmark
+    public String timezoneUncached() {
+        return TimeZone.getDefault().getID();
+    }
+
+    @Benchmark
+    public String timezone() {
+        return Common.Dates.timezone();
+    }
+
+    @Benchmark
+    public int relativeTimeUncached() {
+        // baseline, checking and formatting on each bind
+        int length = 0;
+        for (long time : visible) {
+            Date visibleDate = new Date(time);
+            String label = Common.Dates.isBeforeToday(visibleDate)
+                    ? Common.Dates.format(visibleDate, "dd MMM yyyy")
+                    : Common.Dates.format(visibleDate, "HH:mm");
+            length += label.length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public int relativeTime() {
+        // weekday and date buckets, other buckets need application resources
+        int length = 0;
+        for (long time : visible) {
+            length += Common.Dates.relativeTimeOf(time, now).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public long relativeTimeRefresh() {
+        return Common.Dates.nextRefreshOf(visible, now);
+    }
+
+    @Benchmark
+    public int filterBeforeTodayCalendar() {
+        // baseline, calendar of today per item as before cached day window
+        int count = 0;
+        for (long time : times) {
+            Calendar calendar = Calendar.getInstance();
+            calendar.set(Calendar.MILLISECOND, 0);
+            calendar.set(Calendar.SECOND, 0);
+            calendar.set(Calendar.MINUTE, 0);
+            calendar.set(Calendar.HOUR_OF_DAY, 0);
+            count += time < calendar.getTimeInMillis() ? 1 : 0;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int filterBeforeToday() {
+        int count = 0;
+        for (long time : times) {
+            count += time < Common.Dates.todayMillis() ? 1 : 0;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int sectionsCalendar() {
+        // baseline, calendar per item as grouping by mid night of each item
+        int sections = 0;
+        int previous = Integer.MIN_VALUE;
+        for (long time : times) {
+            Calendar calendar = Calendar.getInstance();
+            calendar.setTimeInMillis(time);
+            int month = calendar.get(Calendar.YEAR) * 12 + calendar.get(Calendar.MONTH);
+            if (month != previous) {
+                sections++;
+                previous = month;
+            }
+        }
+        return sections;
+    }
+
+    @Benchmark
+    public Common.Dates.Sections sectionsOf() {
+        return Common.Dates.sectionsOf(times, now);
+    }
+
+    @Benchmark
+    public Common.Dates.Buckets bucketsOf() {
+        return Common.Dates.bucketsOf(times);
+    }
+}
@@ -0,0 +1,137 @@
+package com.github.lykmapipo.common.benchmarks;
+
+import com.github.lykmapipo.common.gson.ExposeTypeAdapterFactory;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Modifier;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare generated {@link ExposeTypeAdapterFactory} adapters against
+ * gson reflective adapters, on first use and in steady state.
+ *
+ * @since 0.12.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExposeAdapterBenchmark {
+    private static final String USER_JSON = "{\"name\":\"John Doe\",\"phoneNumber\":\"+255714999999\"}";
+    private static final String PROFILE_JSON = "{\"name\":\"John Doe\"}";
+
+    static Gson reflective() {
+        return new GsonBuilder()
+                .excludeFieldsWithoutExposeAnnotation()
+                .excludeFieldsWithModifiers(Modifier.FINAL, Modifier.TRANSIENT, Modifier.STATIC)
+                .serializeNulls()
+                .create();
+    }
+
+    static Gson generated() {
+        return new GsonBuilder()
+                .registerTypeAdapterFactory(new ExposeTypeAdapterFactory())
+                .excludeFieldsWithoutExposeAnnotation()
+                .excludeFieldsWithModifiers(Modifier.FINAL, Modifier.TRANSIENT, Modifier.STATIC)
+                .serializeNulls()
+                .create();
+    }
+
+    /**
+     * Fresh gson instances, to measure first call adapter creation
+     */
+    @State(Scope.Thread)
+    public static class Cold {
+        Gson reflective;
+        Gson generated;
+
+        @Setup(Level.Invocation)
+        public void setup() {
+            reflective = reflective();
+            generated = generated();
+        }
+    }
+
+    /**
+     * Shared warm gson instances, to measure steady state conversion
+     */
+    @State(Scope.Benchmark)
+    public static class Warm {
+        Gson reflective;
+        Gson generated;
+        User user;
+        Profile profile;
+
+        @Setup
+        public void setup() {
+            reflective = reflective();
+            generated = generated();
+            user = new User("John Doe", "+255714999999");
+            profile = new Profile("John Doe");
+        }
+    }
+
+    // first call
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public User coldReflectiveFromJson(Cold cold) {
+        return cold.reflective.fromJson(USER_JSON, User.class);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public User coldGeneratedFromJson(Cold cold) {
+        return cold.generated.fromJson(USER_JSON, User.class);
+    }
+
+    // steady state
+
+    @Benchmark
+    public String reflectiveUserToJson(Warm warm) {
+        return warm.reflective.toJson(warm.user);
+    }
+
+    @Benchmark
+    public String generatedUserToJson(Warm warm) {
+        return warm.generated.toJson(warm.user);
+    }
+
+    @Benchmark
+    public User reflectiveUserFromJson(Warm warm) {
+        return warm.reflective.fromJson(USER_JSON, User.class);
+    }
+
+    @Benchmark
+    public User generatedUserFromJson(Warm warm) {
+        return warm.generated.fromJson(USER_JSON, User.class);
+    }
+
+    @Benchmark
+    public String reflectiveProfileToJson(Warm warm) {
+        return warm.reflective.toJson(warm.profile);
+    }
+
+    @Benchmark
+    public String generatedProfileToJson(Warm warm) {
+        return warm.generated.toJson(warm.profile);
+    }
+
+    @Benchmark
+    public Profile reflectiveProfileFromJson(Warm warm) {
+        return warm.reflective.fromJson(PROFILE_JSON, Profile.class);
+    }
+
+    @Benchmark
+    public Profile generatedProfileFromJson(Warm warm) {
+        return warm.generated.fromJson(PROFILE_JSON, Profile.class);
+    }
+}
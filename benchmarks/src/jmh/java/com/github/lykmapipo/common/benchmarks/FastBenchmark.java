@@ -0,0 +1,64 @@
+package com.github.lykmapipo.common.benchmarks;
+
+import com.github.lykmapipo.common.Common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare boxed helpers with their {@link Common.Fast} primitive variants,
+ * as called from an adapter bind loop.
+ *
+ * @since 0.12.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FastBenchmark {
+    private Date base;
+    private Date checked;
+    private String[] strings;
+
+    @Setup
+    public void setup() {
+        base = new Date(1548968001000L);
+        checked = new Date(1548968000000L);
+        strings = new String[]{"John", "Doe", "+255714999999"};
+    }
+
+    @Benchmark
+    public int checksBoxed() {
+        int truths = 0;
+        truths += Common.Strings.areEmpty(strings) ? 1 : 0;
+        truths += Common.Dates.isBefore(base, checked) ? 1 : 0;
+        truths += Common.Dates.isAfter(base, checked) ? 1 : 0;
+        return truths;
+    }
+
+    @Benchmark
+    public int checksFast() {
+        int truths = 0;
+        truths += Common.Fast.areEmpty(strings) ? 1 : 0;
+        truths += Common.Fast.isBefore(base, checked) ? 1 : 0;
+        truths += Common.Fast.isAfter(base, checked) ? 1 : 0;
+        return truths;
+    }
+
+    @Benchmark
+    public int yearOfBoxed() {
+        return Common.Dates.yearOf(base);
+    }
+
+    @Benchmark
+    public int yearOfFast() {
+        return Common.Fast.yearOf(base);
+    }
+}
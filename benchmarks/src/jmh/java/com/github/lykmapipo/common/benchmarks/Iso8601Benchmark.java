@@ -0,0 +1,92 @@
+package com.github.lykmapipo.common.benchmarks;
+
+import com.github.lykmapipo.common.Common;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Type;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare ISO 8601 parsing and formatting of {@link Common.Dates} against
+ * {@link SimpleDateFormat}, and decoding a page of timestamps against gson
+ * default date adapter.
+ *
+ * @since 0.12.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class Iso8601Benchmark {
+    private static final Type DATES = new TypeToken<List<Date>>() {
+    }.getType();
+
+    private long millis;
+    private String iso;
+    private String json;
+    private Gson gson;
+    private SimpleDateFormat format;
+
+    @Setup
+    public void setup() {
+        millis = 1548968001123L;
+        iso = "2019-01-31T23:53:21.123+03:00";
+        format = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSXXX", Locale.US);
+        format.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < 1000; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append('"').append(Common.Dates.formatIso(millis + i * 60000L)).append('"');
+        }
+        json = builder.append(']').toString();
+        gson = new Gson();
+    }
+
+    @Benchmark
+    public long parseSimpleDateFormat() throws ParseException {
+        return format.parse(iso).getTime();
+    }
+
+    @Benchmark
+    public long parseIso() {
+        return Common.Dates.parseIso(iso, Long.MIN_VALUE);
+    }
+
+    @Benchmark
+    public String formatSimpleDateFormat() {
+        return format.format(new Date(millis));
+    }
+
+    @Benchmark
+    public String formatIso() {
+        return Common.Dates.formatIso(millis);
+    }
+
+    @Benchmark
+    public List<Date> decodeGsonDefault() {
+        // baseline, locale formats first then ISO 8601 on parse exception
+        return gson.fromJson(json, DATES);
+    }
+
+    @Benchmark
+    public List<Date> decode() {
+        return Common.Value.fromJson(json, DATES);
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.lykmapipo.common.benchmarks;
+
+import com.github.lykmapipo.common.Common;
+import com.github.lykmapipo.common.data.Query;
+import com.github.lykmapipo.common.util.LongSet;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare boxed and primitive id collections used by {@link Query.Filter#$in}.
+ * <p>
+ * Run with gc profiler to compare allocation rates.
+ *
+ * @since 0.12.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PrimitiveCollectionsBenchmark {
+    @Param({"100", "10000"})
+    public int size;
+
+    private long[] ids;
+    private Long[] boxedIds;
+    private Set<Long> boxedSet;
+    private LongSet primitiveSet;
+
+    @Setup
+    public void setup() {
+        ids = new long[size];
+        boxedIds = new Long[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = 1_000_000L + i * 7L;
+            boxedIds[i] = ids[i];
+        }
+        boxedSet = Common.Value.setOf(boxedIds);
+        primitiveSet = Common.Value.longSetOf(ids);
+    }
+
+    @Benchmark
+    public Set<Long> buildBoxed() {
+        return Common.Value.setOf(boxedIds);
+    }
+
+    @Benchmark
+    public LongSet buildPrimitive() {
+        return Common.Value.longSetOf(ids);
+    }
+
+    @Benchmark
+    public int containsBoxed() {
+        int found = 0;
+        for (long id : ids) {
+            if (boxedSet.contains(id)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int containsPrimitive() {
+        int found = 0;
+        for (long id : ids) {
+            if (primitiveSet.contains(id)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public String inFilterBoxed() {
+        Map<String, Map<String, Set<Long>>> filter = Query.Filter.$in("id", boxedIds);
+        return Common.Value.toJson(filter);
+    }
+
+    @Benchmark
+    public String inFilterPrimitive() {
+        Map<String, Map<String, LongSet>> filter = Query.Filter.$in("id", Common.Value.longSetOf(ids));
+        return Common.Value.toJson(filter);
+    }
+}
@@ -0,0 +1,20 @@
+package com.github.lykmapipo.common.benchmarks;
+
+import com.google.gson.annotations.Expose;
+
+/**
+ * Benchmark model mirroring library test {@code Profile} model.
+ *
+ * @since 0.12.0
+ */
+public class Profile {
+    @Expose
+    String name;
+
+    public Profile() {
+    }
+
+    public Profile(String name) {
+        this.name = name;
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.lykmapipo.common.benchmarks;
+
+import com.github.lykmapipo.common.data.Query;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.lykmapipo.common.data.Query.Filter.$and;
+import static com.github.lykmapipo.common.data.Query.Filter.$eq;
+import static com.github.lykmapipo.common.data.Query.Filter.$gt;
+import static com.github.lykmapipo.common.data.Query.Filter.$lt;
+import static com.github.lykmapipo.common.data.Query.Filter.$or;
+
+/**
+ * Measure {@link Query} building and conversion.
+ *
+ * @since 0.12.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QueryBenchmark {
+    private Query query;
+
+    @Setup
+    public void setup() {
+        query = Query.create("john", 2L);
+        query.descBy("price");
+        query.ascBy("qty");
+        query.filter($and(
+                $or($eq("price", 0.99), $eq("price", 1.99)),
+                $or($gt("qty", 1), $lt("qty", 10))
+        ));
+    }
+
+    @Benchmark
+    public Map<String, String> toQueryMap() {
+        return query.toQueryMap();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Map<String, String> toQueryMapConcurrent() {
+        return query.toQueryMap();
+    }
+
+    @Benchmark
+    public Map<String, List<Object>> and() {
+        return $and($eq("price", 0.99), $lt("qty", 10));
+    }
+
+    @Benchmark
+    public Map<String, List<Object>> or() {
+        return $or($eq("price", 0.99), $lt("qty", 10));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Map<String, List<Object>> andConcurrent() {
+        return $and($eq("price", 0.99), $lt("qty", 10));
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.lykmapipo.common.benchmarks;
+
+import com.github.lykmapipo.common.Common;
+import com.github.lykmapipo.common.util.StringPool;
+import com.google.gson.reflect.TypeToken;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure decoding a page of users with repeated names, with and without
+ * {@link StringPool}.
+ * <p>
+ * Run with gc profiler to compare retained allocation, pool lookups, hits
+ * and bytes saved are reported as auxiliary counters of decodePooled.
+ *
+ * @since 0.12.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StringPoolBenchmark {
+    private static final Type USERS = new TypeToken<List<User>>() {
+    }.getType();
+
+    private String json;
+    private StringPool pool;
+
+    @Setup
+    public void setup() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < 1000; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            // few distinct values repeated, as statuses and labels are
+            builder.append(Common.Value.toJson(new User("user-" + (i % 10), "+2557149999" + (i % 3))));
+        }
+        json = builder.append(']').toString();
+        pool = new StringPool();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Common.setStringPool(null);
+    }
+
+    @Benchmark
+    public List<User> decode() {
+        Common.setStringPool(null);
+        return Common.Value.fromJson(json, USERS);
+    }
+
+    @Benchmark
+    public List<User> decodePooled(PoolCounters counters) {
+        Common.setStringPool(pool);
+        long lookups = pool.lookups();
+        long hits = pool.hits();
+        long bytesSaved = pool.bytesSaved();
+        List<User> users = Common.Value.fromJson(json, USERS);
+        counters.lookups += pool.lookups() - lookups;
+        counters.hits += pool.hits() - hits;
+        counters.bytesSaved += pool.bytesSaved() - bytesSaved;
+        return users;
+    }
+
+    /**
+     * Pool statistics per iteration, reported by JMH alongside timings
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PoolCounters {
+        public long lookups;
+        public long hits;
+        public long bytesSaved;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            lookups = 0;
+            hits = 0;
+            bytesSaved = 0;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.lykmapipo.common.benchmarks;
+
+import com.github.lykmapipo.common.Common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure {@link Common.Strings} joining.
+ *
+ * @since 0.12.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StringsBenchmark {
+    @Param({"10", "100", "1000", "10000", "100000"})
+    private int size;
+
+    private List<String> strings;
+    private String[] array;
+    private StringBuilder builder;
+
+    @Setup
+    public void setup() {
+        strings = new ArrayList<String>(size);
+        for (int i = 0; i < size; i++) {
+            // half of the values are duplicates
+            strings.add("value-" + (i % (size / 2 + 1)));
+        }
+        array = strings.toArray(new String[0]);
+        builder = new StringBuilder();
+    }
+
+    @Benchmark
+    public String join() {
+        return Common.Strings.join(",", strings, false);
+    }
+
+    @Benchmark
+    public String joinUnique() {
+        return Common.Strings.join(",", strings, true);
+    }
+
+    @Benchmark
+    public String joinArray() {
+        return Common.Strings.join(",", array);
+    }
+
+    @Benchmark
+    public int joinUniqueIntoBuilder() {
+        // reuse caller buffer, as list adapters binding labels would
+        builder.setLength(0);
+        return Common.Strings.join(builder, ",", strings, true).length();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String joinUniqueConcurrent() {
+        return Common.Strings.join(",", strings, true);
+    }
+}
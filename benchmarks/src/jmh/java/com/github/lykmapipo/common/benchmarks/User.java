@@ -0,0 +1,24 @@
+package com.github.lykmapipo.common.benchmarks;
+
+import com.google.gson.annotations.Expose;
+
+/**
+ * Benchmark model mirroring library test {@code User} model.
+ *
+ * @since 0.12.0
+ */
+public class User {
+    @Expose
+    String name;
+
+    @Expose
+    String phoneNumber;
+
+    public User() {
+    }
+
+    public User(String name, String phoneNumber) {
+        this.name = name;
+        this.phoneNumber = phoneNumber;
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.lykmapipo.common.benchmarks;
+
+import com.github.lykmapipo.common.Common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure {@link Common.Value} json conversion.
+ *
+ * @since 0.12.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValueBenchmark {
+    private User user;
+    private String json;
+
+    @Setup
+    public void setup() {
+        user = new User("John Doe", "+255714999999");
+        json = Common.Value.toJson(user);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return Common.Value.toJson(user);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String toJsonConcurrent() {
+        return Common.Value.toJson(user);
+    }
+
+    @Benchmark
+    public User fromJson() {
+        return Common.Value.fromJson(json, User.class);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public User fromJsonConcurrent() {
+        return Common.Value.fromJson(json, User.class);
+    }
+}
@@ -0,0 +1,334 @@
+package com.github.lykmapipo.common.compiler;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generate reflection free gson {@code TypeAdapter} for models with
+ * {@code @Expose} fields.
+ * <p>
+ * Generated adapters follow {@code Common.gson()} rules i.e only exposed fields
+ * which are not final, transient or static are bound. Models which can not be
+ * bound without reflection (private fields, no accessible no-arg constructor,
+ * generic types, custom {@code @JsonAdapter}) are skipped and continue to use
+ * gson reflective adapter.
+ *
+ * @author lally elias <lallyelias87@gmail.com>
+ * @since 0.12.0
+ */
+@SupportedAnnotationTypes(ExposeAdapterProcessor.EXPOSE)
+public class ExposeAdapterProcessor extends AbstractProcessor {
+    // annotations
+    static final String EXPOSE = "com.google.gson.annotations.Expose";
+    static final String SERIALIZED_NAME = "com.google.gson.annotations.SerializedName";
+    static final String JSON_ADAPTER = "com.google.gson.annotations.JsonAdapter";
+
+    // generated adapter class name suffix
+    static final String SUFFIX = "_ExposeTypeAdapter";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment env) {
+        TypeElement expose = processingEnv.getElementUtils().getTypeElement(EXPOSE);
+        if (expose == null) {
+            return false;
+        }
+
+        // collect models declaring exposed fields
+        Set<TypeElement> models = new LinkedHashSet<TypeElement>();
+        for (Element element : env.getElementsAnnotatedWith(expose)) {
+            if (element.getKind() == ElementKind.FIELD) {
+                models.add((TypeElement) element.getEnclosingElement());
+            }
+        }
+
+        // generate adapter for each bindable model
+        for (TypeElement model : models) {
+            List<ExposeField> fields = fieldsOf(model);
+            if (fields != null && !fields.isEmpty()) {
+                write(model, fields);
+            }
+        }
+
+        // never claim @Expose, other processors may need it
+        return false;
+    }
+
+    /**
+     * Collect bound fields of a given model and its super classes in gson order.
+     *
+     * @param model valid model
+     * @return bound fields or null if model can not be bound without reflection
+     */
+    private List<ExposeField> fieldsOf(TypeElement model) {
+        // ensure instantiable, non generic and accessible from its package
+        if (!isBindable(model)) {
+            return null;
+        }
+
+        List<ExposeField> fields = new ArrayList<ExposeField>();
+        Set<String> names = new HashSet<String>();
+        Set<String> jsonNames = new HashSet<String>();
+        PackageElement pkg = packageOf(model);
+
+        // gson binds declared fields first, then those of super classes
+        TypeElement type = model;
+        while (type != null && !isPlatform(type)) {
+            // generic super classes need type resolution, leave them to gson
+            if (type != model && !type.getTypeParameters().isEmpty()) {
+                return skip(model, "generic super class " + type);
+            }
+
+            for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                Set<Modifier> modifiers = field.getModifiers();
+                boolean excluded = modifiers.contains(Modifier.STATIC)
+                        || modifiers.contains(Modifier.TRANSIENT)
+                        || modifiers.contains(Modifier.FINAL);
+                AnnotationMirror exposed = annotationOf(field, EXPOSE);
+                if (excluded || exposed == null) {
+                    continue;
+                }
+
+                // ensure field is accessible from generated adapter
+                boolean accessible = modifiers.contains(Modifier.PUBLIC) || (
+                        !modifiers.contains(Modifier.PRIVATE) && pkg.equals(packageOf(type))
+                );
+                if (!accessible) {
+                    return skip(model, "inaccessible field " + field);
+                }
+                if (annotationOf(field, JSON_ADAPTER) != null) {
+                    return skip(model, "@JsonAdapter on field " + field);
+                }
+
+                // ensure unique java and json names, gson rejects duplicates
+                String name = field.getSimpleName().toString();
+                List<String> alternates = new ArrayList<String>();
+                String jsonName = serializedNameOf(field, alternates);
+                boolean unique = names.add(name) && jsonNames.add(jsonName);
+                for (String alternate : alternates) {
+                    unique = unique && jsonNames.add(alternate);
+                }
+                if (!unique) {
+                    return skip(model, "duplicate field " + name);
+                }
+
+                fields.add(new ExposeField(
+                        name, jsonName, alternates, field.asType(),
+                        booleanOf(exposed, "serialize"), booleanOf(exposed, "deserialize")
+                ));
+            }
+
+            type = superclassOf(type);
+        }
+
+        return fields;
+    }
+
+    /**
+     * Check if a given model can be instantiated and bound without reflection
+     *
+     * @param model valid model
+     * @return true if bindable otherwise false
+     */
+    private boolean isBindable(TypeElement model) {
+        Set<Modifier> modifiers = model.getModifiers();
+        if (model.getKind() != ElementKind.CLASS
+                || modifiers.contains(Modifier.ABSTRACT)
+                || !model.getTypeParameters().isEmpty()
+                || annotationOf(model, JSON_ADAPTER) != null) {
+            note(model, "not a concrete, non generic class");
+            return false;
+        }
+
+        // ensure model and its enclosing classes are reachable
+        Element element = model;
+        while (element instanceof TypeElement) {
+            TypeElement type = (TypeElement) element;
+            boolean reachable = !type.getModifiers().contains(Modifier.PRIVATE) && (
+                    type.getNestingKind() == NestingKind.TOP_LEVEL
+                            || (type.getNestingKind() == NestingKind.MEMBER
+                            && type.getModifiers().contains(Modifier.STATIC))
+            );
+            if (!reachable) {
+                note(model, "not a top level or static member class");
+                return false;
+            }
+            element = type.getEnclosingElement();
+        }
+
+        // ensure accessible no-arg constructor
+        for (ExecutableElement constructor
+                : ElementFilter.constructorsIn(model.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty()
+                    && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+        note(model, "no accessible no-arg constructor");
+        return false;
+    }
+
+    /**
+     * Report skipped model
+     *
+     * @param model  skipped model
+     * @param reason reason for skipping
+     * @return always null
+     */
+    private List<ExposeField> skip(TypeElement model, String reason) {
+        note(model, reason);
+        return null;
+    }
+
+    /**
+     * Report model left to gson reflective adapter
+     *
+     * @param model  skipped model
+     * @param reason reason for skipping
+     */
+    private void note(TypeElement model, String reason) {
+        Messager messager = processingEnv.getMessager();
+        messager.printMessage(
+                Diagnostic.Kind.NOTE,
+                "Using gson reflective adapter for " + model + ": " + reason,
+                model
+        );
+    }
+
+    /**
+     * Write generated adapter source of a given model
+     *
+     * @param model  valid model
+     * @param fields model bound fields
+     */
+    private void write(TypeElement model, List<ExposeField> fields) {
+        Elements elements = processingEnv.getElementUtils();
+        String binaryName = elements.getBinaryName(model).toString();
+        String packageName = packageOf(model).getQualifiedName().toString();
+        String simpleName = (packageName.isEmpty()
+                ? binaryName
+                : binaryName.substring(packageName.length() + 1)
+        ).replace('$', '_') + SUFFIX;
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+        String source = new ExposeAdapterWriter(
+                processingEnv.getTypeUtils(), packageName, simpleName, model.getQualifiedName().toString(), fields
+        ).write();
+
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, model);
+            Writer writer = file.openWriter();
+            try {
+                writer.write(source);
+            } finally {
+                writer.close();
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    "Unable to write adapter for " + model + ": " + e.getMessage(),
+                    model
+            );
+        }
+    }
+
+    private PackageElement packageOf(TypeElement type) {
+        return processingEnv.getElementUtils().getPackageOf(type);
+    }
+
+    private TypeElement superclassOf(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        return (TypeElement) ((DeclaredType) superclass).asElement();
+    }
+
+    private boolean isPlatform(TypeElement type) {
+        String name = type.getQualifiedName().toString();
+        return name.startsWith("java.") || name.startsWith("javax.")
+                || name.startsWith("android.") || name.startsWith("androidx.");
+    }
+
+    private AnnotationMirror annotationOf(Element element, String annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            Element type = mirror.getAnnotationType().asElement();
+            if (((TypeElement) type).getQualifiedName().contentEquals(annotation)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private boolean booleanOf(AnnotationMirror annotation, String member) {
+        Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+                processingEnv.getElementUtils().getElementValuesWithDefaults(annotation);
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : values.entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(member)) {
+                return Boolean.TRUE.equals(entry.getValue().getValue());
+            }
+        }
+        return true;
+    }
+
+    private String serializedNameOf(VariableElement field, List<String> alternates) {
+        String name = field.getSimpleName().toString();
+        AnnotationMirror serializedName = annotationOf(field, SERIALIZED_NAME);
+        if (serializedName == null) {
+            return name;
+        }
+
+        Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+                processingEnv.getElementUtils().getElementValuesWithDefaults(serializedName);
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : values.entrySet()) {
+            String member = entry.getKey().getSimpleName().toString();
+            if ("value".equals(member)) {
+                name = String.valueOf(entry.getValue().getValue());
+            }
+            if ("alternate".equals(member)) {
+                @SuppressWarnings("unchecked")
+                List<? extends AnnotationValue> alternate =
+                        (List<? extends AnnotationValue>) entry.getValue().getValue();
+                for (AnnotationValue value : alternate) {
+                    alternates.add(String.valueOf(value.getValue()));
+                }
+            }
+        }
+        return name;
+    }
+}
@@ -0,0 +1,252 @@
+package com.github.lykmapipo.common.compiler;
+
+import java.util.List;
+
+import javax.lang.model.element.Modifier;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+
+/**
+ * Write java source of a generated gson {@code TypeAdapter} of a model.
+ *
+ * @author lally elias <lallyelias87@gmail.com>
+ * @since 0.12.0
+ */
+final class ExposeAdapterWriter {
+    // gson types
+    private static final String GSON = "com.google.gson.Gson";
+    private static final String TYPE_ADAPTER = "com.google.gson.TypeAdapter";
+    private static final String TYPE_TOKEN = "com.google.gson.reflect.TypeToken";
+    private static final String JSON_READER = "com.google.gson.stream.JsonReader";
+    private static final String JSON_WRITER = "com.google.gson.stream.JsonWriter";
+    private static final String JSON_TOKEN = "com.google.gson.stream.JsonToken";
+    private static final String IO_EXCEPTION = "java.io.IOException";
+
+    // refs
+    private final Types types;
+    private final String packageName;
+    private final String simpleName;
+    private final String modelName;
+    private final List<ExposeField> fields;
+    private final StringBuilder source = new StringBuilder();
+
+    ExposeAdapterWriter(
+            Types types, String packageName, String simpleName,
+            String modelName, List<ExposeField> fields) {
+        this.types = types;
+        this.packageName = packageName;
+        this.simpleName = simpleName;
+        this.modelName = modelName;
+        this.fields = fields;
+    }
+
+    /**
+     * Generate adapter source
+     *
+     * @return valid java source
+     */
+    String write() {
+        if (!packageName.isEmpty()) {
+            line(0, "package " + packageName + ";");
+            line(0, "");
+        }
+        line(0, "/**");
+        line(0, " * Gson {@link " + TYPE_ADAPTER + "} of {@link " + modelName + "}.");
+        line(0, " * <p>");
+        line(0, " * Generated by " + ExposeAdapterProcessor.class.getName() + ". Do not edit.");
+        line(0, " */");
+        line(0, "public final class " + simpleName + " extends "
+                + TYPE_ADAPTER + "<" + modelName + "> {");
+        writeMembers();
+        writeConstructor();
+        writeWrite();
+        writeRead();
+        line(0, "}");
+        return source.toString();
+    }
+
+    private void writeMembers() {
+        line(1, "private final " + GSON + " gson;");
+        for (int i = 0; i < fields.size(); i++) {
+            ExposeField field = fields.get(i);
+            line(1, "private final " + TYPE_ADAPTER + "<" + boxedName(field.type) + "> "
+                    + adapterOf(i) + ";");
+        }
+        line(0, "");
+    }
+
+    private void writeConstructor() {
+        line(1, "public " + simpleName + "(" + GSON + " gson) {");
+        line(2, "this.gson = gson;");
+        for (int i = 0; i < fields.size(); i++) {
+            ExposeField field = fields.get(i);
+            line(2, "this." + adapterOf(i) + " = gson.getAdapter(" + tokenOf(field.type) + ");");
+        }
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void writeWrite() {
+        line(1, "@Override");
+        line(1, "public void write(" + JSON_WRITER + " out, " + modelName + " value) throws "
+                + IO_EXCEPTION + " {");
+        line(2, "if (value == null) {");
+        line(3, "out.nullValue();");
+        line(3, "return;");
+        line(2, "}");
+        line(2, "out.beginObject();");
+        for (int i = 0; i < fields.size(); i++) {
+            ExposeField field = fields.get(i);
+            if (!field.serialize) {
+                continue;
+            }
+            line(2, "out.name(" + literalOf(field.jsonName) + ");");
+            if (isRuntimeTyped(field.type)) {
+                // prefer runtime type adapter, as gson reflective adapter does
+                String type = erasureOf(field.type);
+                line(2, "if (value." + field.name + " != null && value." + field.name
+                        + ".getClass() != " + type + ".class) {");
+                line(3, "writeRuntime(out, value." + field.name + ");");
+                line(2, "} else {");
+                line(3, adapterOf(i) + ".write(out, value." + field.name + ");");
+                line(2, "}");
+            } else {
+                line(2, adapterOf(i) + ".write(out, value." + field.name + ");");
+            }
+        }
+        line(2, "out.endObject();");
+        line(1, "}");
+        line(0, "");
+
+        line(1, "@SuppressWarnings(\"unchecked\")");
+        line(1, "private void writeRuntime(" + JSON_WRITER + " out, Object value) throws "
+                + IO_EXCEPTION + " {");
+        line(2, TYPE_ADAPTER + "<Object> adapter = (" + TYPE_ADAPTER
+                + "<Object>) gson.getAdapter(value.getClass());");
+        line(2, "adapter.write(out, value);");
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void writeRead() {
+        line(1, "@Override");
+        line(1, "public " + modelName + " read(" + JSON_READER + " in) throws "
+                + IO_EXCEPTION + " {");
+        line(2, "if (in.peek() == " + JSON_TOKEN + ".NULL) {");
+        line(3, "in.nextNull();");
+        line(3, "return null;");
+        line(2, "}");
+        line(2, modelName + " value = new " + modelName + "();");
+        line(2, "in.beginObject();");
+        line(2, "while (in.hasNext()) {");
+        line(3, "switch (in.nextName()) {");
+        for (int i = 0; i < fields.size(); i++) {
+            ExposeField field = fields.get(i);
+            if (!field.deserialize) {
+                continue;
+            }
+            line(4, "case " + literalOf(field.jsonName) + ":");
+            for (String alternate : field.alternates) {
+                line(4, "case " + literalOf(alternate) + ":");
+            }
+            if (field.isPrimitive()) {
+                // gson keeps primitive defaults when json value is null
+                String local = "read" + i;
+                line(5, boxedName(field.type) + " " + local + " = " + adapterOf(i) + ".read(in);");
+                line(5, "if (" + local + " != null) {");
+                line(6, "value." + field.name + " = " + local + ";");
+                line(5, "}");
+            } else {
+                line(5, "value." + field.name + " = " + adapterOf(i) + ".read(in);");
+            }
+            line(5, "break;");
+        }
+        line(4, "default:");
+        line(5, "in.skipValue();");
+        line(3, "}");
+        line(2, "}");
+        line(2, "in.endObject();");
+        line(2, "return value;");
+        line(1, "}");
+    }
+
+    /**
+     * Check if gson would look up a more specific runtime type adapter of a field
+     *
+     * @param type field type
+     * @return true if non final, non generic class type
+     */
+    private boolean isRuntimeTyped(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        DeclaredType declared = (DeclaredType) type;
+        return declared.getTypeArguments().isEmpty()
+                && !declared.asElement().getModifiers().contains(Modifier.FINAL);
+    }
+
+    /**
+     * Build expression which obtain gson type of a field
+     *
+     * @param type field type
+     * @return class literal or type token expression
+     */
+    private String tokenOf(TypeMirror type) {
+        if (isRaw(type)) {
+            return erasureOf(type) + ".class";
+        }
+        return "new " + TYPE_TOKEN + "<" + type + ">() {}";
+    }
+
+    private boolean isRaw(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return true;
+        }
+        if (type.getKind() == TypeKind.ARRAY) {
+            return isRaw(((ArrayType) type).getComponentType());
+        }
+        return type.getKind() == TypeKind.DECLARED
+                && ((DeclaredType) type).getTypeArguments().isEmpty();
+    }
+
+    private String erasureOf(TypeMirror type) {
+        return types.erasure(type).toString();
+    }
+
+    private String boxedName(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return types.boxedClass((PrimitiveType) type).getQualifiedName().toString();
+        }
+        return type.toString();
+    }
+
+    private String adapterOf(int index) {
+        return "adapter" + index;
+    }
+
+    private String literalOf(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                literal.append('\\').append(c);
+            } else if (c < 0x20 || c > 0x7e) {
+                literal.append(String.format("\\u%04x", (int) c));
+            } else {
+                literal.append(c);
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    private void line(int indent, String code) {
+        for (int i = 0; i < indent; i++) {
+            source.append("    ");
+        }
+        source.append(code).append('\n');
+    }
+}
@@ -0,0 +1,41 @@
+package com.github.lykmapipo.common.compiler;
+
+import java.util.List;
+
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * A json bound field of a model discovered through {@code @Expose}.
+ *
+ * @author lally elias <lallyelias87@gmail.com>
+ * @since 0.12.0
+ */
+final class ExposeField {
+    // refs
+    final String name;
+    final String jsonName;
+    final List<String> alternates;
+    final TypeMirror type;
+    final boolean serialize;
+    final boolean deserialize;
+
+    ExposeField(
+            String name, String jsonName, List<String> alternates,
+            TypeMirror type, boolean serialize, boolean deserialize) {
+        this.name = name;
+        this.jsonName = jsonName;
+        this.alternates = alternates;
+        this.type = type;
+        this.serialize = serialize;
+        this.deserialize = deserialize;
+    }
+
+    /**
+     * Check if field is of primitive type
+     *
+     * @return true if primitive otherwise false
+     */
+    boolean isPrimitive() {
+        return type.getKind().isPrimitive();
+    }
+}
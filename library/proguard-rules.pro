@@ -15,3 +15,8 @@
 #-keepclassmembers class fqcn.of.javascript.interface.for.webview {
 #   public *;
 #}
+
+# Keep compile time generated gson adapters, they are looked up by name
+-keep class **_ExposeTypeAdapter {
+    public <init>(com.google.gson.Gson);
+}
@@ -7,12 +7,10 @@ import android.content.pm.PackageManager;
 import android.graphics.Color;
 import android.graphics.drawable.Drawable;
 import android.net.ConnectivityManager;
-import android.net.NetworkInfo;
 import android.net.Uri;
 import android.os.Bundle;
 import android.os.Handler;
 import android.os.Looper;
-import android.text.TextUtils;
 
 import androidx.annotation.ColorRes;
 import androidx.annotation.MainThread;
@@ -22,7 +20,6 @@ import androidx.annotation.RequiresPermission;
 import androidx.annotation.StringRes;
 import androidx.annotation.StyleRes;
 import androidx.collection.ArrayMap;
-import androidx.collection.ArraySet;
 import androidx.core.content.ContextCompat;
 import androidx.fragment.app.Fragment;
 import androidx.fragment.app.FragmentActivity;
@@ -36,13 +33,44 @@ import com.github.lykmapipo.common.data.Avatarable;
 import com.github.lykmapipo.common.data.Bundleable;
 import com.github.lykmapipo.common.data.Dialable;
 import com.github.lykmapipo.common.data.Locatable;
+import com.github.lykmapipo.common.gson.ExposeTypeAdapterFactory;
+import com.github.lykmapipo.common.gson.Iso8601DateTypeAdapter;
+import com.github.lykmapipo.common.gson.JsonArrayIterator;
+import com.github.lykmapipo.common.gson.PooledStringTypeAdapter;
+import com.github.lykmapipo.common.gson.PrimitiveCollectionTypeAdapterFactory;
 import com.github.lykmapipo.common.lifecycle.ConnectivityLiveData;
+import com.github.lykmapipo.common.network.ConnectivityMonitor;
+import com.github.lykmapipo.common.network.NetworkClass;
+import com.github.lykmapipo.common.network.NetworkExecutor;
+import com.github.lykmapipo.common.network.OfflineQueue;
+import com.github.lykmapipo.common.network.RetryScheduler;
 import com.github.lykmapipo.common.provider.Provider;
+import com.github.lykmapipo.common.util.AdaptiveMap;
+import com.github.lykmapipo.common.util.AdaptiveSet;
+import com.github.lykmapipo.common.util.ConcatList;
+import com.github.lykmapipo.common.util.ConcatSet;
+import com.github.lykmapipo.common.util.IntList;
+import com.github.lykmapipo.common.util.IntMap;
+import com.github.lykmapipo.common.util.IntSet;
+import com.github.lykmapipo.common.util.LongList;
+import com.github.lykmapipo.common.util.LongMap;
+import com.github.lykmapipo.common.util.LongSet;
+import com.github.lykmapipo.common.util.StringPool;
 import com.google.android.material.dialog.MaterialAlertDialogBuilder;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
 import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
 import java.net.HttpRetryException;
 import java.net.MalformedURLException;
 import java.net.ProtocolException;
@@ -51,12 +79,17 @@ import java.net.SocketTimeoutException;
 import java.net.URISyntaxException;
 import java.net.UnknownHostException;
 import java.net.UnknownServiceException;
+import java.text.DateFormat;
+import java.text.DateFormatSymbols;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -65,12 +98,15 @@ import java.util.TimeZone;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static android.Manifest.permission.ACCESS_NETWORK_STATE;
 import static android.provider.Settings.ACTION_APPLICATION_DETAILS_SETTINGS;
 import static android.provider.Settings.ACTION_WIRELESS_SETTINGS;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static com.github.florent37.runtimepermission.RuntimePermission.askPermission;
 
 /**
@@ -80,14 +116,23 @@ import static com.github.florent37.runtimepermission.RuntimePermission.askPermis
  * @since 0.1.0
  */
 public class Common {
+    // startup report keys
+    public static final String STARTUP_OF = "of";
+    public static final String STARTUP_GSON = "gson";
+    public static final String STARTUP_WARM_UP = "warmUp";
+
     // refs
-    private static Provider appProvider;
-    private static ConnectivityManager appConnectivity;
-    private static Gson gson = new GsonBuilder()
-            .excludeFieldsWithoutExposeAnnotation()
-            .excludeFieldsWithModifiers(Modifier.FINAL, Modifier.TRANSIENT, Modifier.STATIC)
-            .serializeNulls()
-            .create();
+    private static volatile Provider appProvider;
+    private static volatile ConnectivityManager appConnectivity;
+    private static volatile ConnectivityMonitor appMonitor;
+    private static volatile ConnectivityLiveData appConnectivityLiveData;
+    private static volatile RetryScheduler appRetryScheduler;
+    private static final PooledStringTypeAdapter stringAdapter = new PooledStringTypeAdapter();
+
+    // startup timings in nanoseconds, negative until measured
+    private static volatile long ofNanos = -1L;
+    private static volatile long gsonNanos = -1L;
+    private static volatile long warmUpNanos = -1L;
 
     // no instances allowed
     private Common() {
@@ -101,9 +146,95 @@ public class Common {
      * @since 0.1.0
      */
     public static synchronized void of(@NonNull Provider provider) {
+        long start = System.nanoTime();
         if (appProvider == null) {
             appProvider = provider;
         }
+        ofNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * Warm up {@link Common} internals off the main thread.
+     * <p>
+     * Builds application {@link Gson} and type adapters of given model types on
+     * {@link AppExecutors#background()}, so that first conversion on the main thread
+     * does not pay for it. Call right after {@link #of(Provider)}.
+     *
+     * @param types model types to prepare type adapters for
+     * @since 0.12.0
+     */
+    public static void warmUp(@NonNull Class<?>... types) {
+        warmUp(AppExecutors.background(), types);
+    }
+
+    /**
+     * Warm up {@link Common} internals on a given {@link Executor}.
+     *
+     * @param executor valid executor to warm up on
+     * @param types    model types to prepare type adapters for
+     * @since 0.12.0
+     */
+    public static void warmUp(@NonNull Executor executor, @NonNull Class<?>... types) {
+        executor.execute(() -> {
+            long start = System.nanoTime();
+            Gson gson = gson();
+            for (Class<?> type : types) {
+                try {
+                    gson.getAdapter(type);
+                } catch (Exception e) {/*ignore*/}
+            }
+            warmUpNanos = System.nanoTime() - start;
+        });
+    }
+
+    /**
+     * Obtain startup timings report.
+     * <p>
+     * Report contains time spent, in nanoseconds, on {@link #STARTUP_OF} initialization,
+     * {@link #STARTUP_GSON} creation and {@link #STARTUP_WARM_UP}. Only measured
+     * timings are reported.
+     *
+     * @return startup timings report
+     * @since 0.12.0
+     */
+    @NonNull
+    public static Map<String, Long> startupReport() {
+        Map<String, Long> report = new ArrayMap<String, Long>();
+        if (ofNanos >= 0) {
+            report.put(STARTUP_OF, ofNanos);
+        }
+        if (gsonNanos >= 0) {
+            report.put(STARTUP_GSON, gsonNanos);
+        }
+        if (warmUpNanos >= 0) {
+            report.put(STARTUP_WARM_UP, warmUpNanos);
+        }
+        return Collections.unmodifiableMap(report);
+    }
+
+    /**
+     * Set {@link StringPool} used to canonicalise strings decoded by {@link #gson()}.
+     * <p>
+     * Pooling is off by default. Enable it before decoding large responses
+     * with many repeated short values, and read pool statistics to measure the
+     * heap saved.
+     *
+     * @param pool valid pool or null to stop pooling
+     * @since 0.12.0
+     */
+    public static void setStringPool(@Nullable StringPool pool) {
+        stringAdapter.setPool(pool);
+    }
+
+    /**
+     * Retrieve {@link StringPool} used to canonicalise decoded strings
+     *
+     * @return current pool or null if pooling is off
+     * @since 0.12.0
+     */
+    @Nullable
+    public static StringPool stringPool() {
+        return stringAdapter.getPool();
     }
 
     /**
@@ -113,8 +244,8 @@ public class Common {
      * @since 0.1.0
      */
     @NonNull
-    public static synchronized Gson gson() {
-        return gson;
+    public static Gson gson() {
+        return GsonHolder.INSTANCE;
     }
 
     /**
@@ -124,7 +255,7 @@ public class Common {
      * @since 0.1.0
      */
     @NonNull
-    public static synchronized Context applicationContext() {
+    public static Context applicationContext() {
         return appProvider.getApplicationContext();
     }
 
@@ -135,7 +266,7 @@ public class Common {
      * @since 0.1.0
      */
     @NonNull
-    public static synchronized PackageManager packageManager() {
+    public static PackageManager packageManager() {
         return applicationContext().getPackageManager();
     }
 
@@ -147,7 +278,7 @@ public class Common {
      * @since 0.1.0
      */
     @NonNull
-    public static synchronized Boolean isDebug() {
+    public static Boolean isDebug() {
         return appProvider.isDebug();
     }
 
@@ -158,6 +289,31 @@ public class Common {
         appProvider = null;
     }
 
+    /**
+     * Lazy holder of application {@link Gson} instance.
+     * <p>
+     * Class initialization guarantees a single, safely published instance
+     * without locking on every {@link #gson()} call.
+     */
+    private static class GsonHolder {
+        private static final Gson INSTANCE = create();
+
+        private static Gson create() {
+            long start = System.nanoTime();
+            Gson gson = new GsonBuilder()
+                    .registerTypeAdapter(String.class, stringAdapter)
+                    .registerTypeAdapter(Date.class, new Iso8601DateTypeAdapter())
+                    .registerTypeAdapterFactory(new PrimitiveCollectionTypeAdapterFactory())
+                    .registerTypeAdapterFactory(new ExposeTypeAdapterFactory())
+                    .excludeFieldsWithoutExposeAnnotation()
+                    .excludeFieldsWithModifiers(Modifier.FINAL, Modifier.TRANSIENT, Modifier.STATIC)
+                    .serializeNulls()
+                    .create();
+            gsonNanos = System.nanoTime() - start;
+            return gson;
+        }
+    }
+
     /**
      * Color utilities
      */
@@ -244,7 +400,7 @@ public class Common {
          * @since 0.7.0
          */
         @NonNull
-        public static synchronized Integer randomColor() {
+        public static Integer randomColor() {
             return ColorGenerator.MATERIAL.getRandomColor();
         }
     }
@@ -262,7 +418,7 @@ public class Common {
          * @since 0.7.0
          */
         @NonNull
-        public static synchronized <T> TextDrawable letterAvatarFor(
+        public static <T> TextDrawable letterAvatarFor(
                 @NonNull T object) {
             String letter = String.valueOf(object.toString().charAt(0)).toUpperCase();
             Integer color = Colors.colorFor(object);
@@ -277,7 +433,7 @@ public class Common {
          * @since 0.7.0
          */
         @NonNull
-        public static synchronized TextDrawable letterAvatarFor(
+        public static TextDrawable letterAvatarFor(
                 @NonNull Avatarable avatarable) {
             String letter = String.valueOf(avatarable.getAvatarLetter().charAt(0)).toUpperCase();
             Integer color = Colors.parseColor(avatarable.getAvatarColor());
@@ -293,7 +449,7 @@ public class Common {
          * @since 0.7.0
          */
         @NonNull
-        public static synchronized TextDrawable letterAvatarFor(
+        public static TextDrawable letterAvatarFor(
                 @NonNull String letter, @NonNull Integer color) {
             String _letter = String.valueOf(letter.charAt(0)).toUpperCase();
             return TextDrawable.builder().buildRound(_letter, color);
@@ -314,9 +470,9 @@ public class Common {
          * @since 0.1.0
          */
         @Nullable
-        public static synchronized <T> String toJson(@NonNull T value) {
+        public static <T> String toJson(@NonNull T value) {
             try {
-                return gson.toJson(value);
+                return gson().toJson(value);
             } catch (Exception e) {
                 return null;
             }
@@ -332,14 +488,232 @@ public class Common {
          * @since 0.1.0
          */
         @Nullable
-        public static synchronized <T> T fromJson(@NonNull String value, @NonNull Class<T> type) {
+        public static <T> T fromJson(@NonNull String value, @NonNull Class<T> type) {
+            try {
+                return gson().fromJson(value, type);
+            } catch (Exception e) {
+                return null;
+            }
+        }
+
+        /**
+         * Write a generic object value as json into a given {@link Appendable}
+         * (e.g {@link java.io.Writer}) without building an intermediate {@link String}.
+         *
+         * @param value  the object for which Json representation is to be written
+         * @param writer valid appendable to write json into
+         * @return true if json was written otherwise false
+         * @since 0.12.0
+         */
+        @NonNull
+        public static <T> Boolean toJson(@NonNull T value, @NonNull Appendable writer) {
+            try {
+                gson().toJson(value, writer);
+                return true;
+            } catch (Exception e) {
+                return false;
+            }
+        }
+
+        /**
+         * Write a generic object value as UTF-8 json into a given {@link OutputStream}.
+         * <p>
+         * Stream is flushed but not closed.
+         *
+         * @param value  the object for which Json representation is to be written
+         * @param output valid output stream to write json into
+         * @return true if json was written otherwise false
+         * @since 0.12.0
+         */
+        @NonNull
+        public static <T> Boolean toJson(@NonNull T value, @NonNull OutputStream output) {
+            try {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(output, UTF_8));
+                gson().toJson(value, writer);
+                writer.flush();
+                return true;
+            } catch (Exception e) {
+                return false;
+            }
+        }
+
+        /**
+         * Convert json read from a given {@link Reader} to generic object value.
+         * <p>
+         * Reader is consumed but not closed.
+         *
+         * @param reader valid reader of json value
+         * @param type   valid type of the desired object
+         * @return an object of type T read from the reader. Returns {@code null} if
+         * reader is at end of input or if json is not valid.
+         * @since 0.12.0
+         */
+        @Nullable
+        public static <T> T fromJson(@NonNull Reader reader, @NonNull Class<T> type) {
+            try {
+                return gson().fromJson(reader, type);
+            } catch (Exception e) {
+                return null;
+            }
+        }
+
+        /**
+         * Convert UTF-8 json read from a given {@link InputStream} to generic object value.
+         * <p>
+         * Stream is consumed but not closed.
+         *
+         * @param input valid input stream of json value
+         * @param type  valid type of the desired object
+         * @return an object of type T read from the stream. Returns {@code null} if
+         * stream is at end of input or if json is not valid.
+         * @since 0.12.0
+         */
+        @Nullable
+        public static <T> T fromJson(@NonNull InputStream input, @NonNull Class<T> type) {
+            Reader reader = new InputStreamReader(input, UTF_8);
+            return fromJson(reader, type);
+        }
+
+        /**
+         * Convert a json string to generic object value of a given {@link Type}
+         * (e.g {@code new TypeToken<List<User>>(){}.getType()}).
+         *
+         * @param value valid json string value
+         * @param type  valid type of the desired object
+         * @return an object of type T from the string. Returns {@code null} if {@code value}
+         * is null or if {@code value} is empty.
+         * @since 0.12.0
+         */
+        @Nullable
+        public static <T> T fromJson(@NonNull String value, @NonNull Type type) {
+            try {
+                return gson().fromJson(value, type);
+            } catch (Exception e) {
+                return null;
+            }
+        }
+
+        /**
+         * Convert json read from a given {@link Reader} to generic object value
+         * of a given {@link Type}.
+         * <p>
+         * Reader is consumed but not closed.
+         *
+         * @param reader valid reader of json value
+         * @param type   valid type of the desired object
+         * @return an object of type T read from the reader. Returns {@code null} if
+         * reader is at end of input or if json is not valid.
+         * @since 0.12.0
+         */
+        @Nullable
+        public static <T> T fromJson(@NonNull Reader reader, @NonNull Type type) {
             try {
-                return gson.fromJson(value, type);
+                return gson().fromJson(reader, type);
             } catch (Exception e) {
                 return null;
             }
         }
 
+        /**
+         * Convert UTF-8 json read from a given {@link InputStream} to generic object value
+         * of a given {@link Type}.
+         * <p>
+         * Stream is consumed but not closed.
+         *
+         * @param input valid input stream of json value
+         * @param type  valid type of the desired object
+         * @return an object of type T read from the stream. Returns {@code null} if
+         * stream is at end of input or if json is not valid.
+         * @since 0.12.0
+         */
+        @Nullable
+        public static <T> T fromJson(@NonNull InputStream input, @NonNull Type type) {
+            Reader reader = new InputStreamReader(input, UTF_8);
+            return fromJson(reader, type);
+        }
+
+        /**
+         * Iterate elements of a top level json array read from a given {@link Reader},
+         * decoding one element at a time.
+         * <p>
+         * Closing returned iterator closes the reader.
+         *
+         * @param reader valid reader of json array
+         * @param type   valid class of array elements
+         * @return iterator of array elements
+         * @since 0.12.0
+         */
+        @NonNull
+        public static <T> JsonArrayIterator<T> iterateJson(
+                @NonNull Reader reader, @NonNull Class<T> type) {
+            return new JsonArrayIterator<T>(gson(), reader, type);
+        }
+
+        /**
+         * Iterate elements of a top level json array read from a given {@link Reader},
+         * decoding one element at a time.
+         * <p>
+         * Closing returned iterator closes the reader.
+         *
+         * @param reader valid reader of json array
+         * @param type   valid type of array elements
+         * @return iterator of array elements
+         * @since 0.12.0
+         */
+        @NonNull
+        public static <T> JsonArrayIterator<T> iterateJson(
+                @NonNull Reader reader, @NonNull Type type) {
+            return new JsonArrayIterator<T>(gson(), reader, type);
+        }
+
+        /**
+         * Decode elements of a top level json array read from a given {@link Reader},
+         * passing each element to a given listener as soon as it is decoded.
+         * <p>
+         * Reader is consumed but not closed.
+         *
+         * @param reader   valid reader of json array
+         * @param type     valid class of array elements
+         * @param listener listener to receive decoded elements
+         * @return true if whole array was decoded otherwise false
+         * @since 0.12.0
+         */
+        @NonNull
+        public static <T> Boolean forEachJson(
+                @NonNull Reader reader,
+                @NonNull Class<T> type,
+                @NonNull OnJsonElementListener<T> listener) {
+            return forEachJson(reader, (Type) type, listener);
+        }
+
+        /**
+         * Decode elements of a top level json array read from a given {@link Reader},
+         * passing each element to a given listener as soon as it is decoded.
+         * <p>
+         * Reader is consumed but not closed.
+         *
+         * @param reader   valid reader of json array
+         * @param type     valid type of array elements
+         * @param listener listener to receive decoded elements
+         * @return true if whole array was decoded otherwise false
+         * @since 0.12.0
+         */
+        @NonNull
+        public static <T> Boolean forEachJson(
+                @NonNull Reader reader,
+                @NonNull Type type,
+                @NonNull OnJsonElementListener<T> listener) {
+            try {
+                JsonArrayIterator<T> elements = new JsonArrayIterator<T>(gson(), reader, type);
+                while (elements.hasNext()) {
+                    listener.onElement(elements.next());
+                }
+                return true;
+            } catch (Exception e) {
+                return false;
+            }
+        }
+
         /**
          * Check if given {@link java.util.Set} is null or empty
          *
@@ -348,12 +722,14 @@ public class Common {
          * @since 0.1.0
          */
         @NonNull
-        public static synchronized <T> Boolean isEmpty(@Nullable Collection<T> value) {
-            return value == null || value.isEmpty();
+        public static <T> Boolean isEmpty(@Nullable Collection<T> value) {
+            return Fast.isEmpty(value);
         }
 
         /**
          * Create a {@link java.util.Set} of given elements.
+         * <p>
+         * Small sets are array backed, larger ones are promoted to hashed storage.
          *
          * @param elements set members
          * @return set from given elements
@@ -361,14 +737,16 @@ public class Common {
          */
         @SafeVarargs
         @NonNull
-        public static synchronized <T> Set<T> setOf(@NonNull T... elements) {
-            ArraySet<T> set = new ArraySet<T>();
+        public static <T> Set<T> setOf(@NonNull T... elements) {
+            AdaptiveSet<T> set = new AdaptiveSet<T>(elements.length);
             Collections.addAll(set, elements);
             return set;
         }
 
         /**
          * Create a {@link java.util.Set} of given elements.
+         * <p>
+         * Small sets are array backed, larger ones are promoted to hashed storage.
          *
          * @param elements set members
          * @return set from given elements
@@ -376,14 +754,31 @@ public class Common {
          */
         @SafeVarargs
         @NonNull
-        public static synchronized <T> Set<T> setOf(@NonNull Set<T>... elements) {
-            ArraySet<T> set = new ArraySet<T>();
+        public static <T> Set<T> setOf(@NonNull Set<T>... elements) {
+            AdaptiveSet<T> set = new AdaptiveSet<T>();
             for (Set<T> element : elements) {
                 set.addAll(element);
             }
             return set;
         }
 
+        /**
+         * Create a {@link java.util.Set} view which is union of given sets.
+         * <p>
+         * Members are not copied until the view is mutated, given sets are
+         * aliased: they must not be modified while the view is in use, use
+         * {@link #setOf(Set[])} for an independent copy.
+         *
+         * @param elements set members
+         * @return union view of given sets
+         * @since 0.12.0
+         */
+        @SafeVarargs
+        @NonNull
+        public static <T> Set<T> unionOf(@NonNull Set<T>... elements) {
+            return new ConcatSet<T>(elements);
+        }
+
         /**
          * Create a {@link java.util.List} of given elements.
          *
@@ -393,7 +788,7 @@ public class Common {
          */
         @SafeVarargs
         @NonNull
-        public static synchronized <T> List<T> listOf(@NonNull T... elements) {
+        public static <T> List<T> listOf(@NonNull T... elements) {
             ArrayList<T> list = new ArrayList<T>();
             Collections.addAll(list, elements);
             return list;
@@ -408,7 +803,7 @@ public class Common {
          */
         @SafeVarargs
         @NonNull
-        public static synchronized <T> List<T> listOf(@NonNull List<T>... elements) {
+        public static <T> List<T> listOf(@NonNull List<T>... elements) {
             ArrayList<T> list = new ArrayList<T>();
             for (List<T> element : elements) {
                 list.addAll(element);
@@ -416,6 +811,23 @@ public class Common {
             return list;
         }
 
+        /**
+         * Create a {@link java.util.List} view which is concatenation of given lists.
+         * <p>
+         * Members are not copied until the view is mutated, given lists are
+         * aliased: they must not be structurally modified while the view is in
+         * use, use {@link #listOf(List[])} for an independent copy.
+         *
+         * @param elements list members
+         * @return concatenated view of given lists
+         * @since 0.12.0
+         */
+        @SafeVarargs
+        @NonNull
+        public static <T> List<T> concatOf(@NonNull List<T>... elements) {
+            return new ConcatList<T>(elements);
+        }
+
         /**
          * Create a {@link java.util.Map} of given key and value.
          *
@@ -425,8 +837,8 @@ public class Common {
          * @since 0.1.0
          */
         @NonNull
-        public static synchronized <K, V> Map<K, V> mapOf(@NonNull K key, V value) {
-            ArrayMap<K, V> map = new ArrayMap<K, V>();
+        public static <K, V> Map<K, V> mapOf(@NonNull K key, V value) {
+            AdaptiveMap<K, V> map = new AdaptiveMap<K, V>();
             map.put(key, value);
             return map;
         }
@@ -441,8 +853,8 @@ public class Common {
          */
         @SafeVarargs
         @NonNull
-        public static synchronized <K, V> Map<K, Set<V>> mapOf(@NonNull K key, V... value) {
-            ArrayMap<K, Set<V>> map = new ArrayMap<K, Set<V>>();
+        public static <K, V> Map<K, Set<V>> mapOf(@NonNull K key, V... value) {
+            AdaptiveMap<K, Set<V>> map = new AdaptiveMap<K, Set<V>>();
             Set<V> values = setOf(value);
             map.put(key, values);
             return map;
@@ -450,6 +862,8 @@ public class Common {
 
         /**
          * Create a {@link java.util.Map} of given elements.
+         * <p>
+         * Small maps are array backed, larger ones are promoted to hashed storage.
          *
          * @param elements maps to merge
          * @return map of given key and value
@@ -457,8 +871,8 @@ public class Common {
          */
         @SafeVarargs
         @NonNull
-        public static synchronized <K, V> Map<K, V> mapOf(@NonNull Map<K, V>... elements) {
-            ArrayMap<K, V> map = new ArrayMap<K, V>();
+        public static <K, V> Map<K, V> mapOf(@NonNull Map<K, V>... elements) {
+            AdaptiveMap<K, V> map = new AdaptiveMap<K, V>();
             for (Map<K, V> element : elements) {
                 if (element != null) {
                     map.putAll(element);
@@ -467,6 +881,80 @@ public class Common {
             return map;
         }
 
+        /**
+         * Create an {@link IntList} of given elements, without boxing them.
+         *
+         * @param elements list members
+         * @return list of given elements
+         * @since 0.12.0
+         */
+        @NonNull
+        public static IntList intListOf(@NonNull int... elements) {
+            return IntList.of(elements);
+        }
+
+        /**
+         * Create a {@link LongList} of given elements, without boxing them.
+         *
+         * @param elements list members
+         * @return list of given elements
+         * @since 0.12.0
+         */
+        @NonNull
+        public static LongList longListOf(@NonNull long... elements) {
+            return LongList.of(elements);
+        }
+
+        /**
+         * Create an {@link IntSet} of given elements, without boxing them.
+         *
+         * @param elements set members
+         * @return set of given elements
+         * @since 0.12.0
+         */
+        @NonNull
+        public static IntSet intSetOf(@NonNull int... elements) {
+            return IntSet.of(elements);
+        }
+
+        /**
+         * Create a {@link LongSet} of given elements, without boxing them.
+         *
+         * @param elements set members
+         * @return set of given elements
+         * @since 0.12.0
+         */
+        @NonNull
+        public static LongSet longSetOf(@NonNull long... elements) {
+            return LongSet.of(elements);
+        }
+
+        /**
+         * Create an {@link IntMap} of given key and value, without boxing the key.
+         *
+         * @param key   map key
+         * @param value map value
+         * @return map of given key and value
+         * @since 0.12.0
+         */
+        @NonNull
+        public static <V> IntMap<V> intMapOf(int key, @Nullable V value) {
+            return IntMap.of(key, value);
+        }
+
+        /**
+         * Create a {@link LongMap} of given key and value, without boxing the key.
+         *
+         * @param key   map key
+         * @param value map value
+         * @return map of given key and value
+         * @since 0.12.0
+         */
+        @NonNull
+        public static <V> LongMap<V> longMapOf(long key, @Nullable V value) {
+            return LongMap.of(key, value);
+        }
+
         /**
          * Obtain a value or either
          *
@@ -476,9 +964,24 @@ public class Common {
          * @since 0.1.0
          */
         @NonNull
-        public static synchronized <T> T valueOr(@Nullable T value, @NonNull T defaultValue) {
+        public static <T> T valueOr(@Nullable T value, @NonNull T defaultValue) {
             return value == null ? defaultValue : value;
         }
+
+        /**
+         * Json array elements listener
+         *
+         * @since 0.12.0
+         */
+        public interface OnJsonElementListener<T> {
+            /**
+             * Called when an array element is decoded
+             *
+             * @param element decoded element, may be null if json element is null
+             * @since 0.12.0
+             */
+            void onElement(@Nullable T element);
+        }
     }
 
     /**
@@ -497,7 +1000,7 @@ public class Common {
          * @since 0.1.0
          */
         @NonNull
-        public static synchronized String join(@Nullable List<String> strings) {
+        public static String join(@Nullable List<String> strings) {
             return join(strings, false);
         }
 
@@ -510,7 +1013,7 @@ public class Common {
          * @since 0.1.0
          */
         @NonNull
-        public static synchronized String join(
+        public static String join(
                 @NonNull String delimiter,
                 @Nullable List<String> strings) {
             return join(delimiter, strings, false);
@@ -525,7 +1028,7 @@ public class Common {
          * @since 0.1.0
          */
         @NonNull
-        public static synchronized String join(
+        public static String join(
                 @Nullable List<String> strings, @NonNull Boolean unique) {
             return join(DELIMITER_COMMA, strings, unique);
         }
@@ -539,10 +1042,9 @@ public class Common {
          * @since 0.1.0
          */
         @NonNull
-        public static synchronized String join(
+        public static String join(
                 @Nullable String delimiter, @NonNull String... strings) {
-            List<String> parts = Value.listOf(strings);
-            return join(delimiter, parts, false);
+            return join(delimiter, Arrays.asList(strings), false);
         }
 
 
@@ -556,62 +1058,171 @@ public class Common {
          * @since 0.1.0
          */
         @NonNull
-        public static synchronized String join(
+        public static String join(
                 @Nullable String delimiter,
                 @Nullable List<String> strings,
                 @NonNull Boolean unique) {
-            if (strings == null) {
-                return "";
-            }
-            ArrayList<String> parts = new ArrayList<String>();
-            for (String string : strings) {
-                if (!isEmpty(string)) {
-                    boolean shouldAdd = !unique || !parts.contains(string);
-                    if (shouldAdd) {
-                        parts.add(string);
-                    }
-                }
-            }
-            String separator = valueOr(delimiter, DELIMITER_COMMA);
-            return TextUtils.join(separator, parts);
+            return join(delimiter, (Iterable<String>) strings, unique);
         }
 
         /**
-         * Obtain a {@link String} value or either
+         * Join strings
          *
-         * @param value string value
-         * @return either string or default value
-         * @since 0.1.0
+         * @param delimiter values delimiter
+         * @param strings   values to join, iterated once without copying
+         * @param unique    whether to ensure unique
+         * @return joined strings
+         * @since 0.12.0
          */
-        public static synchronized String valueOr(String value) {
-            // return either
-            return valueOr(value, "N/A");
+        @NonNull
+        public static String join(
+                @Nullable String delimiter,
+                @Nullable Iterable<String> strings,
+                @NonNull Boolean unique) {
+            if (strings == null) {
+                return "";
+            }
+            String separator = valueOr(delimiter, DELIMITER_COMMA);
+            StringBuilder builder = new StringBuilder(lengthOf(separator, strings));
+            return join(builder, separator, strings, unique).toString();
         }
 
         /**
-         * Obtain a {@link String} value or either
+         * Join strings into a given {@link StringBuilder}
          *
-         * @param value        string value
-         * @param defaultValue default value
-         * @return either string or default value
-         * @since 0.1.0
+         * @param builder   valid builder to append into
+         * @param delimiter values delimiter
+         * @param strings   values to join, iterated once without copying
+         * @param unique    whether to ensure unique
+         * @return given builder
+         * @since 0.12.0
          */
         @NonNull
-        public static synchronized String valueOr(@Nullable String value, @NonNull String defaultValue) {
-            String defaultVal = !isEmpty(defaultValue) ? defaultValue : "N/A";
-            return !isEmpty(value) ? value : defaultVal;
+        public static StringBuilder join(
+                @NonNull StringBuilder builder,
+                @Nullable String delimiter,
+                @Nullable Iterable<String> strings,
+                @NonNull Boolean unique) {
+            try {
+                appendJoined(builder, delimiter, strings, unique);
+            } catch (IOException e) {
+                // never thrown by StringBuilder
+                throw new IllegalStateException(e);
+            }
+            return builder;
         }
 
         /**
-         * Check if provided {@link String} value is empty
+         * Join strings into a given {@link Appendable}
          *
-         * @param string value to check
-         * @return if string is null or empty
-         * @since 0.1.0
-         */
+         * @param out       valid appendable to write into
+         * @param delimiter values delimiter
+         * @param strings   values to join, iterated once without copying
+         * @param unique    whether to ensure unique
+         * @return true if strings were written otherwise false
+         * @since 0.12.0
+         */
+        @NonNull
+        public static Boolean join(
+                @NonNull Appendable out,
+                @Nullable String delimiter,
+                @Nullable Iterable<String> strings,
+                @NonNull Boolean unique) {
+            try {
+                appendJoined(out, delimiter, strings, unique);
+                return true;
+            } catch (IOException e) {
+                return false;
+            }
+        }
+
+        private static void appendJoined(
+                @NonNull Appendable out,
+                @Nullable String delimiter,
+                @Nullable Iterable<String> strings,
+                boolean unique) throws IOException {
+            if (strings == null) {
+                return;
+            }
+            String separator = valueOr(delimiter, DELIMITER_COMMA);
+
+            // hash based dedupe, linear in number of strings
+            Set<String> seen = null;
+            if (unique) {
+                int expected = strings instanceof Collection ? ((Collection<?>) strings).size() : 16;
+                seen = new HashSet<String>(expected * 4 / 3 + 1);
+            }
+
+            boolean first = true;
+            for (String string : strings) {
+                if (string == null || string.isEmpty() || (seen != null && !seen.add(string))) {
+                    continue;
+                }
+                if (!first) {
+                    out.append(separator);
+                }
+                out.append(string);
+                first = false;
+            }
+        }
+
+        /**
+         * Compute upper bound of joined strings length, used to presize buffers
+         *
+         * @param separator values separator
+         * @param strings   values to join
+         * @return expected length
+         */
+        private static int lengthOf(@NonNull String separator, @NonNull Iterable<String> strings) {
+            // avoid iterating one-shot or lazy iterables twice
+            if (!(strings instanceof Collection)) {
+                return 16;
+            }
+            long length = 0;
+            for (String string : strings) {
+                if (string != null) {
+                    length += string.length() + separator.length();
+                }
+            }
+            return (int) Math.min(length, Integer.MAX_VALUE - 8);
+        }
+
+        /**
+         * Obtain a {@link String} value or either
+         *
+         * @param value string value
+         * @return either string or default value
+         * @since 0.1.0
+         */
+        public static String valueOr(String value) {
+            // return either
+            return valueOr(value, "N/A");
+        }
+
+        /**
+         * Obtain a {@link String} value or either
+         *
+         * @param value        string value
+         * @param defaultValue default value
+         * @return either string or default value
+         * @since 0.1.0
+         */
+        @NonNull
+        public static String valueOr(@Nullable String value, @NonNull String defaultValue) {
+            String defaultVal = !isEmpty(defaultValue) ? defaultValue : "N/A";
+            return !isEmpty(value) ? value : defaultVal;
+        }
+
+        /**
+         * Check if provided {@link String} value is empty
+         *
+         * @param string value to check
+         * @return if string is null or empty
+         * @since 0.1.0
+         */
         @NonNull
-        public static synchronized Boolean isEmpty(@Nullable String string) {
-            return TextUtils.isEmpty(string);
+        public static Boolean isEmpty(@Nullable String string) {
+            return Fast.isEmpty(string);
         }
 
         /**
@@ -622,16 +1233,8 @@ public class Common {
          * @since 0.1.0
          */
         @NonNull
-        public static synchronized Boolean areEmpty(@Nullable String... strings) {
-            List<String> list = Value.listOf(strings);
-            Boolean areEmpty = false;
-            for (String string : list) {
-                areEmpty = TextUtils.isEmpty(string);
-                if (areEmpty) {
-                    break;
-                }
-            }
-            return areEmpty;
+        public static Boolean areEmpty(@Nullable String... strings) {
+            return Fast.areEmpty(strings);
         }
     }
 
@@ -639,285 +1242,2171 @@ public class Common {
      * Date Utilities
      */
     public static class Dates {
+        // bumped by invalidate, caches are also checked against default locale and timezone
+        private static final AtomicInteger generation = new AtomicInteger();
+
+        // TimeZone.getDefault clones under a lock, so default zone is cached and re-checked
+        private static final long ZONE_CHECK_NANOS = TimeUnit.SECONDS.toNanos(1);
+        private static volatile DefaultZone defaultZone;
+
+        // last resolved local day, shared across threads
+        private static final long HOUR_MILLIS = 60L * 60 * 1000;
+        private static final long DAY_MILLIS = 24 * HOUR_MILLIS;
+        private static volatile DayWindow dayWindow;
+        private static volatile DayWindow todayWindow;
+        private static volatile Clock clock = Clock.SYSTEM;
+
+        // display names of default locale and id of default timezone
+        private static volatile NameTable nameTable;
+        private static volatile LabelTable labelTable;
+
+        // relative time buckets, packed with their value as bucket << 8 | value
+        private static final long MINUTE_MILLIS = 60L * 1000;
+        private static final int BUCKET_JUST_NOW = 0;
+        private static final int BUCKET_MINUTES = 1;
+        private static final int BUCKET_HOURS = 2;
+        private static final int BUCKET_YESTERDAY = 3;
+        private static final int BUCKET_THIS_WEEK = 4;
+        private static final int BUCKET_OLDER = 5;
+
+        // thread confined formatters, SimpleDateFormat is not thread safe
+        private static final int MAX_FORMATTERS = 32;
+        private static final ThreadLocal<FormatterCache> formatters =
+                new ThreadLocal<FormatterCache>() {
+                    @Override
+                    protected FormatterCache initialValue() {
+                        return new FormatterCache();
+                    }
+                };
+
         /**
-         * Derive current device timezone
+         * Source of current time of {@link Dates}
          *
-         * @return device timezone
-         * @since 0.1.0
+         * @since 0.12.0
          */
-        @Nullable
-        public static synchronized String timezone() {
-            String timezone = "";
-            try {
-                TimeZone timeZone = TimeZone.getDefault();
-                timezone = timeZone.getID();
-            } catch (Exception e) {
-                timezone = "";
-            }
+        public interface Clock {
+            /**
+             * System wall clock
+             */
+            Clock SYSTEM = System::currentTimeMillis;
 
-            return timezone;
+            /**
+             * Obtain current time
+             *
+             * @return current time in milliseconds since epoch
+             */
+            long currentTimeMillis();
         }
 
         /**
-         * Parse a given date using given format
+         * Set clock used as current time, i.e for deterministic tests
          *
-         * @param date   valid date to format
-         * @param format valid date format
-         * @return formatted date
-         * @since 0.1.0
+         * @param clock valid clock or null to use system clock
+         * @since 0.12.0
          */
-        @Nullable
-        public static synchronized Date parse(@NonNull String date, @NonNull String format) {
-            try {
-                SimpleDateFormat formatter = new SimpleDateFormat(format, Locale.getDefault());
-                return formatter.parse(date);
-            } catch (Exception e) {
-                return null;
-            }
+        public static void setClock(@Nullable Clock clock) {
+            Dates.clock = clock != null ? clock : Clock.SYSTEM;
         }
 
         /**
-         * Format a given date using given format
+         * Obtain clock used as current time
          *
-         * @param date   valid date to format
-         * @param format valid date format
-         * @return formatted date
-         * @since 0.1.0
+         * @return current clock
+         * @since 0.12.0
          */
         @NonNull
-        public static synchronized String format(@NonNull Date date, @NonNull String format) {
-            SimpleDateFormat formatter = new SimpleDateFormat(format, Locale.getDefault());
-            return formatter.format(date);
+        public static Clock clock() {
+            return clock;
         }
 
         /**
-         * Obtain tomorrow of today
+         * Obtain current time from {@link #clock()}
          *
-         * @return tomorrow date of today
-         * @since 0.1.0
+         * @return current time in milliseconds since epoch
+         * @since 0.12.0
+         */
+        public static long now() {
+            return clock.currentTimeMillis();
+        }
+
+        /**
+         * Invalidate cached date formatters and tables.
+         * <p>
+         * Caches are checked against current default locale, and default
+         * timezone is re-read at most once a second. Call it right after
+         * {@link TimeZone#setDefault(TimeZone)} within the application, or to
+         * rebuild labels after application resources change.
+         *
+         * @since 0.12.0
+         */
+        public static void invalidate() {
+            generation.incrementAndGet();
+        }
+
+        /**
+         * Obtain default timezone, without cloning it on every call.
+         * <p>
+         * Same instance is returned while default timezone id is unchanged,
+         * so caches compare it by identity.
+         *
+         * @return shared default timezone, never modified
          */
         @NonNull
-        public static synchronized Date tomorrow() {
-            return tomorrowOf(today());
+        private static TimeZone defaultZone() {
+            DefaultZone cached = defaultZone;
+            int current = generation.get();
+            long now = System.nanoTime();
+            if (cached != null && cached.generation == current
+                    && now - cached.checkedAt < ZONE_CHECK_NANOS) {
+                return cached.zone;
+            }
+
+            TimeZone zone = TimeZone.getDefault();
+            if (cached != null && cached.generation == current
+                    && cached.zone.getID().equals(zone.getID())) {
+                zone = cached.zone;
+            }
+            defaultZone = new DefaultZone(current, zone, now);
+            return zone;
         }
 
         /**
-         * Obtain tomorrow of given date
+         * Default timezone of a single generation, as of last check
+         */
+        private static final class DefaultZone {
+            private final int generation;
+            private final TimeZone zone;
+            private final long checkedAt;
+
+            private DefaultZone(int generation, @NonNull TimeZone zone, long checkedAt) {
+                this.generation = generation;
+                this.zone = zone;
+                this.checkedAt = checkedAt;
+            }
+        }
+
+        /**
+         * Obtain cached formatter of a given pattern for current thread
          *
-         * @return tomorrow date of a given date
-         * @since 0.1.0
+         * @param format valid date format
+         * @return formatter of default locale and timezone
          */
         @NonNull
-        public static synchronized Date tomorrowOf(@NonNull Date date) {
-            return after(date, 1);
+        private static SimpleDateFormat formatterOf(@NonNull String format) {
+            FormatterCache cache = formatters.get();
+            Locale locale = Locale.getDefault();
+            TimeZone zone = defaultZone();
+            int current = generation.get();
+            if (cache.generation != current || cache.locale != locale || cache.zone != zone) {
+                cache.formatters.clear();
+                cache.generation = current;
+                cache.locale = locale;
+                cache.zone = zone;
+            }
+
+            SimpleDateFormat formatter = cache.formatters.get(format);
+            if (formatter == null) {
+                // bound per thread cache, patterns are usually few constants
+                if (cache.formatters.size() >= MAX_FORMATTERS) {
+                    cache.formatters.clear();
+                }
+                formatter = new SimpleDateFormat(format, locale);
+                cache.formatters.put(format, formatter);
+            }
+            return formatter;
         }
 
         /**
-         * Obtain yesterday of today
+         * Per thread formatters of a single locale and timezone
+         */
+        private static final class FormatterCache {
+            private final HashMap<String, SimpleDateFormat> formatters =
+                    new HashMap<String, SimpleDateFormat>();
+            private int generation = -1;
+            private Locale locale;
+            private TimeZone zone;
+        }
+
+        /**
+         * Obtain local day window containing given time.
+         * <p>
+         * Last window is cached, so repeated lookups within a day neither
+         * allocate nor consult timezone rules.
          *
-         * @return yesterday date of today
-         * @since 0.1.0
+         * @param millis time in milliseconds since epoch
+         * @return window of local day containing given time
          */
         @NonNull
-        public static synchronized Date yesterday() {
-            return yesterdayOf(today());
+        private static DayWindow dayWindowOf(long millis) {
+            return dayWindowOf(defaultZone(), millis);
         }
 
         /**
-         * Obtain yesterday of given date
+         * Obtain local day window containing given time, in a given default timezone
          *
-         * @return yesterday date of a given date
-         * @since 0.1.0
+         * @param zone   current default timezone
+         * @param millis time in milliseconds since epoch
+         * @return window of local day containing given time
          */
         @NonNull
-        public static synchronized Date yesterdayOf(@NonNull Date date) {
-            return before(date, 1);
+        private static DayWindow dayWindowOf(@NonNull TimeZone zone, long millis) {
+            int current = generation.get();
+            DayWindow window = dayWindow;
+            if (window != null && window.isOf(current, zone)
+                    && millis >= window.start && millis < window.end) {
+                return window;
+            }
+
+            window = newDayWindow(current, zone, millis);
+            dayWindow = window;
+            return window;
         }
 
         /**
-         * Verify if checked date is before today
+         * Obtain local day window containing current time.
+         * <p>
+         * Kept apart from last resolved window, so comparing times against today
+         * keeps both windows cached.
          *
-         * @param checked date to check
-         * @return if checked date is before today
-         * @since 0.1.0
+         * @param now current time in milliseconds since epoch
+         * @return window of today
          */
         @NonNull
-        public static synchronized Boolean isBeforeToday(@NonNull Date checked) {
-            return checked.before(today());
+        private static DayWindow todayWindowOf(long now) {
+            TimeZone zone = defaultZone();
+            int current = generation.get();
+            DayWindow window = todayWindow;
+            if (window != null && window.isOf(current, zone)
+                    && now >= window.start && now < window.end) {
+                return window;
+            }
+            window = newDayWindow(current, zone, now);
+            todayWindow = window;
+            return window;
+        }
+
+        @NonNull
+        private static DayWindow newDayWindow(int current, @NonNull TimeZone zone, long millis) {
+            long day = floorDiv(millis + zone.getOffset(millis), DAY_MILLIS);
+            long start = localToUtc(zone, day * DAY_MILLIS);
+            long end = localToUtc(zone, (day + 1) * DAY_MILLIS);
+            int offset = zone.getOffset(start);
+            boolean fixed = offset == zone.getOffset(end - 1);
+            return new DayWindow(current, zone, day, Math.min(start, millis), end, offset, fixed);
         }
 
         /**
-         * Verify if checked date is after today
+         * Convert local wall time to time since epoch.
+         * <p>
+         * Local times skipped by a transition are shifted forward, as lenient
+         * {@link Calendar} does, repeated ones resolve to their earlier instant.
          *
-         * @param checked date to check
-         * @return if checked date is after today
-         * @since 0.1.0
+         * @param zone  valid timezone
+         * @param local local wall time in milliseconds
+         * @return time in milliseconds since epoch
+         */
+        private static long localToUtc(@NonNull TimeZone zone, long local) {
+            int offset = zone.getOffset(local - zone.getOffset(local));
+            long utc = local - offset;
+            int actual = zone.getOffset(utc);
+            if (actual != offset) {
+                return local - Math.min(offset, actual);
+            }
+            int prior = zone.getOffset(utc - 3 * HOUR_MILLIS);
+            if (prior > offset && zone.getOffset(local - prior) == prior) {
+                return local - prior;
+            }
+            return utc;
+        }
+
+        private static long floorDiv(long x, long y) {
+            long quotient = x / y;
+            if ((x % y != 0) && ((x ^ y) < 0)) {
+                quotient--;
+            }
+            return quotient;
+        }
+
+        /**
+         * Local day of a single timezone
+         */
+        private static final class DayWindow {
+            private final int generation;
+            private final TimeZone zone;
+            private final long day;
+            private final long start;
+            private final long end;
+            private final int offset;
+            private final boolean fixed;
+
+            private DayWindow(int generation, TimeZone zone, long day, long start, long end,
+                              int offset, boolean fixed) {
+                this.generation = generation;
+                this.zone = zone;
+                this.day = day;
+                this.start = start;
+                this.end = end;
+                this.offset = offset;
+                this.fixed = fixed;
+            }
+
+            private boolean isOf(int generation, @NonNull TimeZone zone) {
+                // default zone is shared while unchanged, see defaultZone
+                return this.generation == generation && this.zone == zone;
+            }
+        }
+
+        /**
+         * Obtain local wall time of a given time, in default timezone
+         *
+         * @param millis time in milliseconds since epoch
+         * @return local wall time in milliseconds
+         */
+        private static long localOf(long millis) {
+            return localOf(defaultZone(), millis);
+        }
+
+        /**
+         * Obtain local wall time of a given time, in a given default timezone
+         *
+         * @param zone   current default timezone, resolved once per batch
+         * @param millis time in milliseconds since epoch
+         * @return local wall time in milliseconds
+         */
+        private static long localOf(@NonNull TimeZone zone, long millis) {
+            DayWindow window = dayWindowOf(zone, millis);
+            return millis + (window.fixed ? window.offset : window.zone.getOffset(millis));
+        }
+
+        /**
+         * Convert days since epoch to a gregorian date, in a single pass
+         *
+         * @param day days since 1970-01-01
+         * @return year, zero based month and day of month packed as
+         * {@code year << 16 | month << 8 | dayOfMonth}
+         */
+        private static long civilOf(long day) {
+            // refs: http://howardhinnant.github.io/date_algorithms.html#civil_from_days
+            long shifted = day + 719468;
+            long era = floorDiv(shifted, 146097);
+            long dayOfEra = shifted - era * 146097;
+            long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+            long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+            long monthOfYear = (5 * dayOfYear + 2) / 153;
+            long dayOfMonth = dayOfYear - (153 * monthOfYear + 2) / 5 + 1;
+            long month = monthOfYear < 10 ? monthOfYear + 2 : monthOfYear - 10;
+            long year = yearOfEra + era * 400 + (month <= Calendar.FEBRUARY ? 1 : 0);
+            return year << 16 | month << 8 | dayOfMonth;
+        }
+
+        private static int dayOfWeekOf(long day) {
+            // 1970-01-01 is a thursday
+            long index = (day + 4) % 7;
+            return (int) (index < 0 ? index + 7 : index) + Calendar.SUNDAY;
+        }
+
+        /**
+         * Obtain a single {@link Calendar} field of a given time, without a calendar
+         *
+         * @param millis time in milliseconds since epoch
+         * @param field  calendar field
+         * @return value of a field
+         */
+        private static int fieldOf(long millis, int field) {
+            long local = localOf(millis);
+            long day = floorDiv(local, DAY_MILLIS);
+            int time = (int) (local - day * DAY_MILLIS);
+            switch (field) {
+                case Calendar.HOUR_OF_DAY:
+                    return time / 3600000;
+                case Calendar.MINUTE:
+                    return time / 60000 % 60;
+                case Calendar.SECOND:
+                    return time / 1000 % 60;
+                case Calendar.MILLISECOND:
+                    return time % 1000;
+                case Calendar.DAY_OF_WEEK:
+                    return dayOfWeekOf(day);
+                case Calendar.YEAR:
+                    return (int) (civilOf(day) >> 16);
+                case Calendar.MONTH:
+                    return (int) (civilOf(day) >> 8 & 0xFF);
+                case Calendar.DAY_OF_MONTH:
+                    return (int) (civilOf(day) & 0xFF);
+                default:
+                    throw new IllegalArgumentException("Unsupported field: " + field);
+            }
+        }
+
+        /**
+         * Obtain calendar fields of a given date
+         *
+         * @param date valid date
+         * @return fields of a given date
+         * @since 0.12.0
          */
         @NonNull
-        public static synchronized Boolean isAfterToday(@NonNull Date checked) {
-            return checked.after(today());
+        public static Fields fieldsOf(@NonNull Date date) {
+            return fieldsOf(date.getTime(), new Fields());
         }
 
         /**
-         * Obtain current date without time
+         * Obtain calendar fields of a given time
          *
-         * @return today date with time cleared
-         * @since 0.1.0
+         * @param millis time in milliseconds since epoch
+         * @param fields fields to fill, reused across calls
+         * @return given fields filled with a given time
+         * @since 0.12.0
          */
         @NonNull
-        public static synchronized Date today() {
-            return clearTime(new Date());
+        public static Fields fieldsOf(long millis, @NonNull Fields fields) {
+            long local = localOf(millis);
+            long day = floorDiv(local, DAY_MILLIS);
+            int time = (int) (local - day * DAY_MILLIS);
+            long civil = civilOf(day);
+
+            fields.millis = millis;
+            fields.year = (int) (civil >> 16);
+            fields.month = (int) (civil >> 8 & 0xFF);
+            fields.dayOfMonth = (int) (civil & 0xFF);
+            fields.dayOfWeek = dayOfWeekOf(day);
+            fields.hourOfDay = time / 3600000;
+            fields.minute = time / 60000 % 60;
+            fields.second = time / 1000 % 60;
+            fields.millisecond = time % 1000;
+            return fields;
         }
 
         /**
-         * Obtain current date with time set to midnight
+         * Obtain calendar fields of given times
          *
-         * @return today date with time set to midnight
-         * @since 0.1.0
+         * @param millis times in milliseconds since epoch
+         * @return fields of given times
+         * @since 0.12.0
          */
         @NonNull
-        public static synchronized Date todayMidNight() {
-            return midNightOf(new Date());
+        public static FieldArrays fieldsOf(@NonNull long[] millis) {
+            return fieldsOf(millis, new FieldArrays(millis.length));
         }
 
         /**
-         * Verify if checked date is before base date
+         * Obtain calendar fields of given times.
+         * <p>
+         * Dates are computed once per distinct day, so sorted times of a list
+         * cost little more than their time of day.
          *
-         * @param base    date to compared to
-         * @param checked date to check
-         * @return if checked date is before base date
-         * @since 0.1.0
+         * @param millis times in milliseconds since epoch
+         * @param fields fields to fill, at least as large as given times
+         * @return given fields filled with given times
+         * @since 0.12.0
          */
         @NonNull
-        public static synchronized Boolean isBefore(@NonNull Date base, @NonNull Date checked) {
-            return checked.before(base);
+        public static FieldArrays fieldsOf(@NonNull long[] millis, @NonNull FieldArrays fields) {
+            if (fields.size() < millis.length) {
+                throw new IllegalArgumentException(
+                        "Fields size " + fields.size() + " is less than " + millis.length);
+            }
+
+            TimeZone zone = defaultZone();
+            long previousDay = Long.MIN_VALUE;
+            long civil = 0;
+            int dayOfWeek = 0;
+            for (int i = 0; i < millis.length; i++) {
+                long local = localOf(zone, millis[i]);
+                long day = floorDiv(local, DAY_MILLIS);
+                int time = (int) (local - day * DAY_MILLIS);
+                if (day != previousDay) {
+                    civil = civilOf(day);
+                    dayOfWeek = dayOfWeekOf(day);
+                    previousDay = day;
+                }
+
+                fields.years[i] = (int) (civil >> 16);
+                fields.months[i] = (int) (civil >> 8 & 0xFF);
+                fields.daysOfMonth[i] = (int) (civil & 0xFF);
+                fields.daysOfWeek[i] = dayOfWeek;
+                fields.hoursOfDay[i] = time / 3600000;
+                fields.minutes[i] = time / 60000 % 60;
+                fields.seconds[i] = time / 1000 % 60;
+            }
+            return fields;
+        }
+
+        /**
+         * Calendar fields of a time in default timezone.
+         * <p>
+         * Fields follow {@link Calendar} conventions, months are zero based and
+         * days of week start at {@link Calendar#SUNDAY}. Dates use proleptic
+         * gregorian calendar.
+         * <pre>
+         * Fields fields = new Fields();
+         * Dates.fieldsOf(item.getCreatedAt(), fields);
+         * int year = fields.getYear();
+         * </pre>
+         *
+         * @since 0.12.0
+         */
+        public static final class Fields {
+            private long millis;
+            private int year;
+            private int month;
+            private int dayOfMonth;
+            private int dayOfWeek;
+            private int hourOfDay;
+            private int minute;
+            private int second;
+            private int millisecond;
+
+            public long getMillis() {
+                return millis;
+            }
+
+            public int getYear() {
+                return year;
+            }
+
+            public int getMonth() {
+                return month;
+            }
+
+            public int getDayOfMonth() {
+                return dayOfMonth;
+            }
+
+            public int getDayOfWeek() {
+                return dayOfWeek;
+            }
+
+            public int getHourOfDay() {
+                return hourOfDay;
+            }
+
+            public int getMinute() {
+                return minute;
+            }
+
+            public int getSecond() {
+                return second;
+            }
+
+            public int getMillisecond() {
+                return millisecond;
+            }
+
+            @NonNull
+            @Override
+            public String toString() {
+                return "Fields{year=" + year + ", month=" + month + ", dayOfMonth=" + dayOfMonth
+                        + ", dayOfWeek=" + dayOfWeek + ", hourOfDay=" + hourOfDay
+                        + ", minute=" + minute + ", second=" + second
+                        + ", millisecond=" + millisecond + "}";
+            }
+        }
+
+        /**
+         * Calendar fields of several times in default timezone, one array per field.
+         * <p>
+         * Fields follow same conventions as {@link Fields}.
+         *
+         * @since 0.12.0
+         */
+        public static final class FieldArrays {
+            private final int[] years;
+            private final int[] months;
+            private final int[] daysOfMonth;
+            private final int[] daysOfWeek;
+            private final int[] hoursOfDay;
+            private final int[] minutes;
+            private final int[] seconds;
+
+            public FieldArrays(int size) {
+                this.years = new int[size];
+                this.months = new int[size];
+                this.daysOfMonth = new int[size];
+                this.daysOfWeek = new int[size];
+                this.hoursOfDay = new int[size];
+                this.minutes = new int[size];
+                this.seconds = new int[size];
+            }
+
+            public int size() {
+                return years.length;
+            }
+
+            @NonNull
+            public int[] getYears() {
+                return years;
+            }
+
+            @NonNull
+            public int[] getMonths() {
+                return months;
+            }
+
+            @NonNull
+            public int[] getDaysOfMonth() {
+                return daysOfMonth;
+            }
+
+            @NonNull
+            public int[] getDaysOfWeek() {
+                return daysOfWeek;
+            }
+
+            @NonNull
+            public int[] getHoursOfDay() {
+                return hoursOfDay;
+            }
+
+            @NonNull
+            public int[] getMinutes() {
+                return minutes;
+            }
+
+            @NonNull
+            public int[] getSeconds() {
+                return seconds;
+            }
+        }
+
+        /**
+         * Obtain display names of default locale, built once per locale
+         *
+         * @return display names of default locale
+         */
+        @NonNull
+        private static NameTable nameTable() {
+            Locale locale = Locale.getDefault();
+            int current = generation.get();
+            NameTable table = nameTable;
+            if (table == null || table.generation != current || table.locale != locale) {
+                table = new NameTable(current, locale);
+                nameTable = table;
+            }
+            return table;
+        }
+
+        /**
+         * Weekday and month names of a single locale, indexed by {@link Calendar} fields
+         */
+        private static final class NameTable {
+            private final int generation;
+            private final Locale locale;
+            private final String[] shortWeekdays;
+            private final String[] longWeekdays;
+            private final String[] shortMonths;
+            private final String[] longMonths;
+            private final int firstDayOfWeek;
+
+            private NameTable(int generation, @NonNull Locale locale) {
+                DateFormatSymbols symbols = DateFormatSymbols.getInstance(locale);
+                this.firstDayOfWeek = Calendar.getInstance(locale).getFirstDayOfWeek();
+                this.generation = generation;
+                this.locale = locale;
+                this.shortWeekdays = symbols.getShortWeekdays();
+                this.longWeekdays = symbols.getWeekdays();
+                this.shortMonths = symbols.getShortMonths();
+                this.longMonths = symbols.getMonths();
+            }
+
+            @NonNull
+            private String weekdayOf(int dayOfWeek, int style) {
+                return namesOf(style, shortWeekdays, longWeekdays)[dayOfWeek];
+            }
+
+            @NonNull
+            private String monthOf(int month, int style) {
+                return namesOf(style, shortMonths, longMonths)[month];
+            }
+
+            @NonNull
+            private static String[] namesOf(int style, String[] shortNames, String[] longNames) {
+                if (style == Calendar.SHORT) {
+                    return shortNames;
+                }
+                if (style == Calendar.LONG) {
+                    return longNames;
+                }
+                throw new IllegalArgumentException("Unsupported style: " + style);
+            }
+        }
+
+        /**
+         * Derive current device timezone
+         *
+         * @return device timezone
+         * @since 0.1.0
+         */
+        @Nullable
+        public static String timezone() {
+            String timezone = "";
+            try {
+                TimeZone timeZone = defaultZone();
+                timezone = timeZone.getID();
+            } catch (Exception e) {
+                timezone = "";
+            }
+
+            return timezone;
+        }
+
+        /**
+         * Parse a given date using given format
+         *
+         * @param date   valid date to format
+         * @param format valid date format
+         * @return formatted date
+         * @since 0.1.0
+         */
+        @Nullable
+        public static Date parse(@NonNull String date, @NonNull String format) {
+            try {
+                SimpleDateFormat formatter = formatterOf(format);
+                return formatter.parse(date);
+            } catch (Exception e) {
+                return null;
+            }
+        }
+
+        /**
+         * Format a given date using given format
+         *
+         * @param date   valid date to format
+         * @param format valid date format
+         * @return formatted date
+         * @since 0.1.0
+         */
+        @NonNull
+        public static String format(@NonNull Date date, @NonNull String format) {
+            SimpleDateFormat formatter = formatterOf(format);
+            return formatter.format(date);
+        }
+
+        /**
+         * Parse a given ISO 8601 date, without a formatter.
+         * <p>
+         * Accepts {@code yyyy-MM-dd}, optionally followed by {@code THH:mm},
+         * seconds, fraction of seconds and {@code Z} or {@code +HH:mm} offset.
+         * Dates without offset are in default timezone.
+         *
+         * @param date valid ISO 8601 date
+         * @return parsed date or null
+         * @since 0.12.0
+         */
+        @Nullable
+        public static Date parseIso(@Nullable String date) {
+            if (date == null) {
+                return null;
+            }
+            long millis = parseIso(date, Long.MIN_VALUE);
+            return millis == Long.MIN_VALUE ? null : new Date(millis);
+        }
+
+        /**
+         * Parse a given ISO 8601 date, without a formatter
+         *
+         * @param date         valid ISO 8601 date
+         * @param defaultValue value returned when date is not valid
+         * @return parsed time in milliseconds since epoch or default value
+         * @since 0.12.0
+         */
+        public static long parseIso(@NonNull CharSequence date, long defaultValue) {
+            int length = date.length();
+            if (length < 10 || date.charAt(4) != '-' || date.charAt(7) != '-') {
+                return defaultValue;
+            }
+            int year = digitsOf(date, 0, 4);
+            int month = digitsOf(date, 5, 2);
+            int day = digitsOf(date, 8, 2);
+            if (year < 0 || month < 1 || month > 12 || day < 1 || day > daysInMonthOf(year, month)) {
+                return defaultValue;
+            }
+            long local = daysOf(year, month, day) * DAY_MILLIS;
+            if (length == 10) {
+                return localToUtc(dayWindowOf(local).zone, local);
+            }
+
+            char separator = date.charAt(10);
+            if ((separator != 'T' && separator != 't' && separator != ' ')
+                    || length < 16 || date.charAt(13) != ':') {
+                return defaultValue;
+            }
+            int hour = digitsOf(date, 11, 2);
+            int minute = digitsOf(date, 14, 2);
+            int second = 0;
+            int millis = 0;
+            int position = 16;
+            if (position < length && date.charAt(position) == ':') {
+                second = digitsOf(date, position + 1, 2);
+                position += 3;
+                if (position < length && (date.charAt(position) == '.' || date.charAt(position) == ',')) {
+                    int start = ++position;
+                    while (position < length && isDigit(date.charAt(position))) {
+                        // keep milliseconds, finer digits are truncated
+                        if (position - start < 3) {
+                            millis = millis * 10 + (date.charAt(position) - '0');
+                        }
+                        position++;
+                    }
+                    int digits = position - start;
+                    if (digits == 0) {
+                        return defaultValue;
+                    }
+                    for (int i = digits; i < 3; i++) {
+                        millis *= 10;
+                    }
+                }
+            }
+            // leap second is read as last second of a minute
+            if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 60) {
+                return defaultValue;
+            }
+            local += hour * HOUR_MILLIS + minute * 60000L + Math.min(second, 59) * 1000L + millis;
+            if (position == length) {
+                return localToUtc(dayWindowOf(local).zone, local);
+            }
+
+            char zone = date.charAt(position);
+            if (zone == 'Z' || zone == 'z') {
+                return position + 1 == length ? local : defaultValue;
+            }
+            if (zone != '+' && zone != '-') {
+                return defaultValue;
+            }
+            int offsetHours = digitsOf(date, position + 1, 2);
+            int offsetMinutes = 0;
+            position += 3;
+            if (position < length) {
+                if (date.charAt(position) == ':') {
+                    position++;
+                }
+                offsetMinutes = digitsOf(date, position, 2);
+                position += 2;
+            }
+            if (position != length || offsetHours < 0 || offsetHours > 18
+                    || offsetMinutes < 0 || offsetMinutes > 59) {
+                return defaultValue;
+            }
+            long offset = (offsetHours * 60L + offsetMinutes) * 60000L;
+            return zone == '+' ? local - offset : local + offset;
+        }
+
+        /**
+         * Format a given date as ISO 8601 in UTC, without a formatter
+         *
+         * @param date valid date
+         * @return date formatted as {@code yyyy-MM-dd'T'HH:mm:ss.SSS'Z'}
+         * @since 0.12.0
+         */
+        @NonNull
+        public static String formatIso(@NonNull Date date) {
+            return formatIso(date.getTime());
+        }
+
+        /**
+         * Format a given time as ISO 8601 in UTC, without a formatter
+         *
+         * @param millis time in milliseconds since epoch
+         * @return time formatted as {@code yyyy-MM-dd'T'HH:mm:ss.SSS'Z'}
+         * @since 0.12.0
+         */
+        @NonNull
+        public static String formatIso(long millis) {
+            long day = floorDiv(millis, DAY_MILLIS);
+            int time = (int) (millis - day * DAY_MILLIS);
+            long civil = civilOf(day);
+            int year = (int) (civil >> 16);
+
+            StringBuilder builder = new StringBuilder(24);
+            if (year < 0) {
+                builder.append('-');
+                year = -year;
+            }
+            appendDigits(builder, year, 4).append('-');
+            appendDigits(builder, (int) (civil >> 8 & 0xFF) + 1, 2).append('-');
+            appendDigits(builder, (int) (civil & 0xFF), 2).append('T');
+            appendDigits(builder, time / 3600000, 2).append(':');
+            appendDigits(builder, time / 60000 % 60, 2).append(':');
+            appendDigits(builder, time / 1000 % 60, 2).append('.');
+            appendDigits(builder, time % 1000, 3).append('Z');
+            return builder.toString();
+        }
+
+        @NonNull
+        private static StringBuilder appendDigits(@NonNull StringBuilder builder, int value, int width) {
+            for (int limit = 10, i = 1; i < width; i++, limit *= 10) {
+                if (value < limit) {
+                    builder.append('0');
+                }
+            }
+            return builder.append(value);
+        }
+
+        private static int digitsOf(@NonNull CharSequence value, int start, int count) {
+            if (start < 0 || start + count > value.length()) {
+                return -1;
+            }
+            int digits = 0;
+            for (int i = start; i < start + count; i++) {
+                char c = value.charAt(i);
+                if (!isDigit(c)) {
+                    return -1;
+                }
+                digits = digits * 10 + (c - '0');
+            }
+            return digits;
+        }
+
+        private static boolean isDigit(char c) {
+            return c >= '0' && c <= '9';
+        }
+
+        private static int daysInMonthOf(int year, int month) {
+            if (month == 2) {
+                boolean leap = (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+                return leap ? 29 : 28;
+            }
+            return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+        }
+
+        /**
+         * Convert a gregorian date to days since epoch
+         *
+         * @param year  year
+         * @param month one based month
+         * @param day   day of month
+         * @return days since 1970-01-01
+         */
+        private static long daysOf(int year, int month, int day) {
+            // refs: http://howardhinnant.github.io/date_algorithms.html#days_from_civil
+            long y = month <= 2 ? year - 1 : year;
+            long era = floorDiv(y, 400);
+            long yearOfEra = y - era * 400;
+            long dayOfYear = (153L * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+            long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+            return era * 146097 + dayOfEra - 719468;
+        }
+
+        /**
+         * Obtain tomorrow of today
+         *
+         * @return tomorrow date of today
+         * @since 0.1.0
+         */
+        @NonNull
+        public static Date tomorrow() {
+            return new Date(tomorrowOf(now()));
+        }
+
+        /**
+         * Obtain tomorrow of given date
+         *
+         * @return tomorrow date of a given date
+         * @since 0.1.0
+         */
+        @NonNull
+        public static Date tomorrowOf(@NonNull Date date) {
+            return after(date, 1);
+        }
+
+        /**
+         * Obtain yesterday of today
+         *
+         * @return yesterday date of today
+         * @since 0.1.0
+         */
+        @NonNull
+        public static Date yesterday() {
+            return new Date(yesterdayOf(now()));
+        }
+
+        /**
+         * Obtain yesterday of given date
+         *
+         * @return yesterday date of a given date
+         * @since 0.1.0
+         */
+        @NonNull
+        public static Date yesterdayOf(@NonNull Date date) {
+            return before(date, 1);
+        }
+
+        /**
+         * Verify if checked date is before today
+         *
+         * @param checked date to check
+         * @return if checked date is before today
+         * @since 0.1.0
+         */
+        @NonNull
+        public static Boolean isBeforeToday(@NonNull Date checked) {
+            return Fast.isBeforeToday(checked);
+        }
+
+        /**
+         * Verify if checked date is after today
+         *
+         * @param checked date to check
+         * @return if checked date is after today
+         * @since 0.1.0
+         */
+        @NonNull
+        public static Boolean isAfterToday(@NonNull Date checked) {
+            return Fast.isAfterToday(checked);
+        }
+
+        /**
+         * Obtain current date without time
+         *
+         * @return today date with time cleared
+         * @since 0.1.0
+         */
+        @NonNull
+        public static Date today() {
+            return new Date(todayMillis());
+        }
+
+        /**
+         * Obtain current date with time set to midnight
+         *
+         * @return today date with time set to midnight
+         * @since 0.1.0
+         */
+        @NonNull
+        public static Date todayMidNight() {
+            return new Date(todayMidNightMillis());
+        }
+
+        /**
+         * Verify if checked date is before base date
+         *
+         * @param base    date to compared to
+         * @param checked date to check
+         * @return if checked date is before base date
+         * @since 0.1.0
+         */
+        @NonNull
+        public static Boolean isBefore(@NonNull Date base, @NonNull Date checked) {
+            return Fast.isBefore(base, checked);
+        }
+
+        /**
+         * Verify if checked date is after base date
+         *
+         * @param base    date to compared to
+         * @param checked date to check
+         * @return if checked date is after base date
+         * @since 0.1.0
+         */
+        @NonNull
+        public static Boolean isAfter(@NonNull Date base, @NonNull Date checked) {
+            return Fast.isAfter(base, checked);
+        }
+
+        /**
+         * Obtain a yesterday which if nth days from a specific date
+         *
+         * @param date valid date
+         * @param days valid amount of days
+         * @return date before given date
+         * @since 0.1.0
+         */
+        @NonNull
+        public static Date before(@NonNull Date date, @NonNull Integer days) {
+            Integer length = days;
+            if (length > 0) {
+                length = 0 - length;
+            }
+            return addDays(date, length);
+        }
+
+        /**
+         * Obtain a tomorrow which if nth days from a specific date
+         *
+         * @param date valid date
+         * @param days valid amount of days
+         * @return date after given date
+         * @since 0.1.0
+         */
+        @NonNull
+        public static Date after(@NonNull Date date, @NonNull Integer days) {
+            Integer length = days;
+            if (length < 0) {
+                length = 0 - length;
+            }
+            return addDays(date, length);
+        }
+
+        /**
+         * Add days to a given date object and return a new date
+         *
+         * @param date valid date
+         * @param days valid amount of days to be added
+         * @return date with days added and time cleared
+         * @since 0.1.0
+         */
+        @NonNull
+        public static Date addDays(@NonNull Date date, @NonNull Integer days) {
+            return new Date(addDays(date.getTime(), days.intValue()));
+        }
+
+        /**
+         * Clear milliseconds, seconds, minutes and hours from a date
+         *
+         * @param date valid date
+         * @return date with milliseconds, seconds, minutes and hours cleared
+         * @since 0.1.0
+         */
+        @NonNull
+        public static Date clearTime(@NonNull Date date) {
+            return new Date(clearTime(date.getTime()));
+        }
+
+        /**
+         * Obtain mid night of a given date
+         *
+         * @param date valid date
+         * @return date reset to its mid night time
+         * @since 0.1.0
+         */
+        @NonNull
+        public static Date midNightOf(@NonNull Date date) {
+            return new Date(midNightOf(date.getTime()));
+        }
+
+        /**
+         * Obtain start of today
+         *
+         * @return today time with time cleared, in milliseconds since epoch
+         * @since 0.12.0
+         */
+        public static long todayMillis() {
+            return todayWindowOf(now()).start;
+        }
+
+        /**
+         * Obtain mid night of today
+         *
+         * @return last millisecond of today, in milliseconds since epoch
+         * @since 0.12.0
+         */
+        public static long todayMidNightMillis() {
+            return todayWindowOf(now()).end - 1;
+        }
+
+        /**
+         * Obtain tomorrow of given time
+         *
+         * @param millis time in milliseconds since epoch
+         * @return start of next day, in milliseconds since epoch
+         * @since 0.12.0
+         */
+        public static long tomorrowOf(long millis) {
+            return addDays(millis, 1);
+        }
+
+        /**
+         * Obtain yesterday of given time
+         *
+         * @param millis time in milliseconds since epoch
+         * @return start of previous day, in milliseconds since epoch
+         * @since 0.12.0
+         */
+        public static long yesterdayOf(long millis) {
+            return addDays(millis, -1);
+        }
+
+        /**
+         * Obtain a day which is nth days before a given time
+         *
+         * @param millis time in milliseconds since epoch
+         * @param days   valid amount of days
+         * @return start of day before given time, in milliseconds since epoch
+         * @since 0.12.0
+         */
+        public static long before(long millis, int days) {
+            return addDays(millis, days > 0 ? -days : days);
+        }
+
+        /**
+         * Obtain a day which is nth days after a given time
+         *
+         * @param millis time in milliseconds since epoch
+         * @param days   valid amount of days
+         * @return start of day after given time, in milliseconds since epoch
+         * @since 0.12.0
+         */
+        public static long after(long millis, int days) {
+            return addDays(millis, days < 0 ? -days : days);
+        }
+
+        /**
+         * Add days to a given time, in default timezone
+         *
+         * @param millis time in milliseconds since epoch
+         * @param days   valid amount of days to be added
+         * @return time with days added and time cleared, in milliseconds since epoch
+         * @since 0.12.0
+         */
+        public static long addDays(long millis, int days) {
+            DayWindow window = dayWindowOf(millis);
+            if (days == 0) {
+                return window.start;
+            }
+            return localToUtc(window.zone, (window.day + days) * DAY_MILLIS);
+        }
+
+        /**
+         * Clear milliseconds, seconds, minutes and hours from a given time,
+         * in default timezone
+         *
+         * @param millis time in milliseconds since epoch
+         * @return start of day of given time, in milliseconds since epoch
+         * @since 0.12.0
+         */
+        public static long clearTime(long millis) {
+            return dayWindowOf(millis).start;
+        }
+
+        /**
+         * Obtain mid night of a given time, in default timezone
+         *
+         * @param millis time in milliseconds since epoch
+         * @return last millisecond of day of given time, in milliseconds since epoch
+         * @since 0.12.0
+         */
+        public static long midNightOf(long millis) {
+            return dayWindowOf(millis).end - 1;
+        }
+
+        /**
+         * Obtain year of current time
+         *
+         * @return year of current time
+         * @since 0.9.0
+         */
+        @NonNull
+        public static Integer yearOf() {
+            return Fast.yearOf(now());
+        }
+
+        /**
+         * Obtain year of a given date
+         *
+         * @param date valid date
+         * @return year of a given date
+         * @since 0.9.0
+         */
+        @NonNull
+        public static Integer yearOf(@NonNull Date date) {
+            return Fast.yearOf(date);
+        }
+
+        /**
+         * Obtain month of current time
+         *
+         * @return month of current time
+         * @since 0.9.0
+         */
+        @NonNull
+        public static Integer monthOf() {
+            return Fast.monthOf(now());
+        }
+
+        /**
+         * Obtain month of a given date
+         *
+         * @param date valid date
+         * @return month of a given date
+         * @since 0.9.0
+         */
+        @NonNull
+        public static Integer monthOf(@NonNull Date date) {
+            return Fast.monthOf(date);
+        }
+
+        /**
+         * Obtain day of month of current time
+         *
+         * @return day of month of current time
+         * @since 0.9.0
+         */
+        @NonNull
+        public static Integer dayOfMonthOf() {
+            return Fast.dayOfMonthOf(now());
+        }
+
+        /**
+         * Obtain month day of a given date
+         *
+         * @param date valid date
+         * @return month day of a given date
+         * @since 0.9.0
+         */
+        @NonNull
+        public static Integer dayOfMonthOf(@NonNull Date date) {
+            return Fast.dayOfMonthOf(date);
+        }
+
+        /**
+         * Obtain week day of current time
+         *
+         * @return week day of current time
+         * @since 0.9.0
+         */
+        @NonNull
+        public static Integer dayOfWeekOf() {
+            return Fast.dayOfWeekOf(now());
+        }
+
+        /**
+         * Obtain week day of a given date
+         *
+         * @param date valid date
+         * @return week day of a given date
+         * @since 0.9.0
+         */
+        @NonNull
+        public static Integer dayOfWeekOf(@NonNull Date date) {
+            return Fast.dayOfWeekOf(date);
+        }
+
+        /**
+         * Obtain hour of day of current time in 24-hours format
+         *
+         * @return hour of day of current time
+         * @since 0.9.0
+         */
+        @NonNull
+        public static Integer hourOfDayOf() {
+            return Fast.hourOfDayOf(now());
+        }
+
+        /**
+         * Obtain hour of day of a given date in 24-hours format
+         *
+         * @param date valid date
+         * @return hour of day day of a given date
+         * @since 0.9.0
+         */
+        @NonNull
+        public static Integer hourOfDayOf(@NonNull Date date) {
+            return Fast.hourOfDayOf(date);
+        }
+
+        /**
+         * Obtain minute(s) of current time
+         *
+         * @return minute(s) of current time
+         * @since 0.9.0
+         */
+        @NonNull
+        public static Integer minuteOf() {
+            return Fast.minuteOf(now());
+        }
+
+        /**
+         * Obtain minute(s) of a given date
+         *
+         * @param date valid date
+         * @return minute(s) of a given date
+         * @since 0.9.0
+         */
+        @NonNull
+        public static Integer minuteOf(@NonNull Date date) {
+            return Fast.minuteOf(date);
+        }
+
+        /**
+         * Obtain second(s) of current time
+         *
+         * @return second(s) of current time
+         * @since 0.9.0
+         */
+        @NonNull
+        public static Integer secondOf() {
+            return Fast.secondOf(now());
+        }
+
+        /**
+         * Obtain second(s) of a given date
+         *
+         * @param date valid date
+         * @return second(s) of a given date
+         * @since 0.9.0
+         */
+        @NonNull
+        public static Integer secondOf(@NonNull Date date) {
+            return Fast.secondOf(date);
+        }
+
+        /**
+         * Obtain day of week display name of current time
+         *
+         * @return day of week display name of current time
+         * @since 0.10.0
+         */
+        @NonNull
+        public static String dayOfWeekDisplayNameOf() {
+            return dayOfWeekDisplayNameOf(now(), Calendar.LONG);
+        }
+
+        /**
+         * Obtain day of week display name of a given date
+         *
+         * @param date valid date
+         * @return day of week display name of a given date
+         * @since 0.10.0
+         */
+        @NonNull
+        public static String dayOfWeekDisplayNameOf(@NonNull Date date) {
+            return dayOfWeekDisplayNameOf(date.getTime(), Calendar.LONG);
+        }
+
+        /**
+         * Obtain day of week display name of a given date
+         *
+         * @param date  valid date
+         * @param style {@link Calendar#SHORT} or {@link Calendar#LONG}
+         * @return day of week display name of a given date
+         * @since 0.12.0
+         */
+        @NonNull
+        public static String dayOfWeekDisplayNameOf(@NonNull Date date, int style) {
+            return dayOfWeekDisplayNameOf(date.getTime(), style);
+        }
+
+        /**
+         * Obtain day of week display name of a given time
+         *
+         * @param millis time in milliseconds since epoch
+         * @param style  {@link Calendar#SHORT} or {@link Calendar#LONG}
+         * @return day of week display name of a given time
+         * @since 0.12.0
+         */
+        @NonNull
+        public static String dayOfWeekDisplayNameOf(long millis, int style) {
+            return nameTable().weekdayOf(fieldOf(millis, Calendar.DAY_OF_WEEK), style);
+        }
+
+        /**
+         * Obtain month display name of current time
+         *
+         * @return month display name current time
+         * @since 0.10.0
+         */
+        @NonNull
+        public static String monthDisplayNameOf() {
+            return monthDisplayNameOf(now(), Calendar.LONG);
+        }
+
+        /**
+         * Obtain month display name of a given date
+         *
+         * @param date valid date
+         * @return month display name of a given date
+         * @since 0.10.0
+         */
+        @NonNull
+        public static String monthDisplayNameOf(@NonNull Date date) {
+            return monthDisplayNameOf(date.getTime(), Calendar.LONG);
+        }
+
+        /**
+         * Obtain month display name of a given date
+         *
+         * @param date  valid date
+         * @param style {@link Calendar#SHORT} or {@link Calendar#LONG}
+         * @return month display name of a given date
+         * @since 0.12.0
+         */
+        @NonNull
+        public static String monthDisplayNameOf(@NonNull Date date, int style) {
+            return monthDisplayNameOf(date.getTime(), style);
+        }
+
+        /**
+         * Obtain month display name of a given time
+         *
+         * @param millis time in milliseconds since epoch
+         * @param style  {@link Calendar#SHORT} or {@link Calendar#LONG}
+         * @return month display name of a given time
+         * @since 0.12.0
+         */
+        @NonNull
+        public static String monthDisplayNameOf(long millis, int style) {
+            return nameTable().monthOf(fieldOf(millis, Calendar.MONTH), style);
+        }
+
+        /**
+         * Obtain relative time label of a given time from now
+         *
+         * @param millis time in milliseconds since epoch
+         * @return relative time label i.e 5 min ago
+         * @see #relativeTimeOf(long, long)
+         * @since 0.12.0
+         */
+        @NonNull
+        public static String relativeTimeOf(long millis) {
+            return relativeTimeOf(millis, now());
+        }
+
+        /**
+         * Obtain relative time label of a given time.
+         * <p>
+         * Times are bucketed as just now, minutes ago, hours ago within today,
+         * yesterday, day of week within a week and date when older. Labels are
+         * cached per bucket and locale, so repeated binds return same string.
+         *
+         * @param millis time in milliseconds since epoch
+         * @param now    current time in milliseconds since epoch
+         * @return relative time label i.e 5 min ago
+         * @since 0.12.0
+         */
+        @NonNull
+        public static String relativeTimeOf(long millis, long now) {
+            int bucket = bucketOf(millis, now, todayWindowOf(now));
+            LabelTable table = labelTable();
+            switch (bucket >> 8) {
+                case BUCKET_JUST_NOW:
+                    return table.justNow();
+                case BUCKET_MINUTES:
+                    return table.minutesAgo(bucket & 0xFF);
+                case BUCKET_HOURS:
+                    return table.hoursAgo(bucket & 0xFF);
+                case BUCKET_YESTERDAY:
+                    return table.yesterday();
+                case BUCKET_THIS_WEEK:
+                    return nameTable().weekdayOf(bucket & 0xFF, Calendar.LONG);
+                default:
+                    return table.dateOf(millis, floorDiv(localOf(millis), DAY_MILLIS));
+            }
+        }
+
+        /**
+         * Obtain time at which relative time label of a given time changes
+         *
+         * @param millis time in milliseconds since epoch
+         * @param now    current time in milliseconds since epoch
+         * @return time in milliseconds since epoch, or {@link Long#MAX_VALUE}
+         * if label never changes
+         * @since 0.12.0
+         */
+        public static long nextRefreshOf(long millis, long now) {
+            return nextRefreshOf(millis, now, todayWindowOf(now));
+        }
+
+        private static long nextRefreshOf(long millis, long now, @NonNull DayWindow today) {
+            int bucket = bucketOf(millis, now, today);
+            switch (bucket >> 8) {
+                case BUCKET_JUST_NOW:
+                    return millis + MINUTE_MILLIS;
+                case BUCKET_MINUTES:
+                    return millis + ((bucket & 0xFF) + 1) * MINUTE_MILLIS;
+                case BUCKET_HOURS:
+                    return Math.min(millis + ((bucket & 0xFF) + 1) * HOUR_MILLIS, today.end);
+                case BUCKET_YESTERDAY:
+                    return today.end;
+                case BUCKET_THIS_WEEK:
+                    // day of week lasts until a week old
+                    long day = floorDiv(millis + today.zone.getOffset(millis), DAY_MILLIS);
+                    return localToUtc(today.zone, (day + 7) * DAY_MILLIS);
+                default:
+                    return Long.MAX_VALUE;
+            }
+        }
+
+        /**
+         * Obtain earliest time at which any of given relative time labels changes.
+         * <p>
+         * Schedule a single clock tick at returned time, then refresh labels
+         * which {@link #isRelativeTimeStale(long, long, long)}.
+         *
+         * @param millis times in milliseconds since epoch, i.e of visible items
+         * @param now    current time in milliseconds since epoch
+         * @return time in milliseconds since epoch, or {@link Long#MAX_VALUE}
+         * if no label changes
+         * @since 0.12.0
+         */
+        public static long nextRefreshOf(@NonNull long[] millis, long now) {
+            DayWindow today = todayWindowOf(now);
+            long next = Long.MAX_VALUE;
+            for (long time : millis) {
+                next = Math.min(next, nextRefreshOf(time, now, today));
+            }
+            return next;
+        }
+
+        /**
+         * Verify if relative time label of a given time rendered at a given
+         * time is no longer current
+         *
+         * @param millis     time in milliseconds since epoch
+         * @param renderedAt time label was rendered in milliseconds since epoch
+         * @param now        current time in milliseconds since epoch
+         * @return if label need refresh
+         * @since 0.12.0
+         */
+        public static boolean isRelativeTimeStale(long millis, long renderedAt, long now) {
+            // render time is arbitrary, so read cached windows without replacing them
+            return now >= nextRefreshOf(millis, renderedAt, peekWindowOf(renderedAt));
+        }
+
+        /**
+         * Obtain local day window containing given time, without caching it
+         *
+         * @param millis time in milliseconds since epoch
+         * @return cached window containing given time or a new one
+         */
+        @NonNull
+        private static DayWindow peekWindowOf(long millis) {
+            TimeZone zone = defaultZone();
+            int current = generation.get();
+            DayWindow window = todayWindow;
+            if (window != null && window.isOf(current, zone)
+                    && millis >= window.start && millis < window.end) {
+                return window;
+            }
+            window = dayWindow;
+            if (window != null && window.isOf(current, zone)
+                    && millis >= window.start && millis < window.end) {
+                return window;
+            }
+            return newDayWindow(current, zone, millis);
+        }
+
+        /**
+         * Bucket a given time relative to current time, without allocating
+         *
+         * @param millis time in milliseconds since epoch
+         * @param now    current time in milliseconds since epoch
+         * @param today  window of day containing current time
+         * @return bucket packed with its value as {@code bucket << 8 | value}
+         */
+        private static int bucketOf(long millis, long now, @NonNull DayWindow today) {
+            long elapsed = now - millis;
+            if (elapsed < MINUTE_MILLIS) {
+                return BUCKET_JUST_NOW << 8;
+            }
+            if (elapsed < HOUR_MILLIS) {
+                return BUCKET_MINUTES << 8 | (int) (elapsed / MINUTE_MILLIS);
+            }
+            if (millis >= today.start) {
+                return BUCKET_HOURS << 8 | (int) (elapsed / HOUR_MILLIS);
+            }
+            long day = floorDiv(millis + today.zone.getOffset(millis), DAY_MILLIS);
+            long days = today.day - day;
+            if (days <= 1) {
+                return BUCKET_YESTERDAY << 8;
+            }
+            if (days < 7) {
+                return BUCKET_THIS_WEEK << 8 | dayOfWeekOf(day);
+            }
+            return BUCKET_OLDER << 8;
+        }
+
+        /**
+         * Obtain relative time labels of default locale
+         *
+         * @return labels of default locale
+         */
+        @NonNull
+        private static LabelTable labelTable() {
+            Locale locale = Locale.getDefault();
+            TimeZone zone = defaultZone();
+            int current = generation.get();
+            LabelTable table = labelTable;
+            if (table == null || table.generation != current || table.locale != locale
+                    || table.zone != zone) {
+                table = new LabelTable(current, locale, zone);
+                labelTable = table;
+            }
+            return table;
+        }
+
+        /**
+         * Relative time labels of a single locale and timezone, resolved once per value
+         */
+        private static final class LabelTable {
+            private static final int MAX_DATES = 512;
+
+            private final int generation;
+            private final Locale locale;
+            private final TimeZone zone;
+            private final String[] minutesAgo = new String[60];
+            // a day lasts 25 hours when daylight saving ends
+            private final String[] hoursAgo = new String[25];
+            private final LongMap<String> dates = new LongMap<String>();
+            private final DateFormat dateFormat;
+            private String justNow;
+            private String yesterday;
+
+            private LabelTable(int generation, @NonNull Locale locale, @NonNull TimeZone zone) {
+                this.generation = generation;
+                this.locale = locale;
+                this.zone = zone;
+                this.dateFormat = DateFormat.getDateInstance(DateFormat.MEDIUM, locale);
+            }
+
+            // labels are immutable, so racing threads at most resolve twice
+
+            @NonNull
+            private String justNow() {
+                String label = justNow;
+                if (label == null) {
+                    label = Resources.getString(R.string.relative_time_just_now);
+                    justNow = label;
+                }
+                return label;
+            }
+
+            @NonNull
+            private String yesterday() {
+                String label = yesterday;
+                if (label == null) {
+                    label = Resources.getString(R.string.relative_time_yesterday);
+                    yesterday = label;
+                }
+                return label;
+            }
+
+            @NonNull
+            private String minutesAgo(int minutes) {
+                String label = minutesAgo[minutes];
+                if (label == null) {
+                    label = quantityOf(R.plurals.relative_time_minutes_ago, minutes);
+                    minutesAgo[minutes] = label;
+                }
+                return label;
+            }
+
+            @NonNull
+            private String hoursAgo(int hours) {
+                String label = hoursAgo[hours];
+                if (label == null) {
+                    label = quantityOf(R.plurals.relative_time_hours_ago, hours);
+                    hoursAgo[hours] = label;
+                }
+                return label;
+            }
+
+            @NonNull
+            private synchronized String dateOf(long millis, long day) {
+                String label = dates.get(day);
+                if (label == null) {
+                    if (dates.size() >= MAX_DATES) {
+                        dates.clear();
+                    }
+                    // DateFormat is not thread safe, guarded by table
+                    label = dateFormat.format(new Date(millis));
+                    dates.put(day, label);
+                }
+                return label;
+            }
+
+            @NonNull
+            private static String quantityOf(int resId, int quantity) {
+                return applicationContext().getResources()
+                        .getQuantityString(resId, quantity, quantity);
+            }
+        }
+
+        /**
+         * Obtain day, week and month buckets of given times, in a single pass
+         *
+         * @param millis times in milliseconds since epoch
+         * @return buckets of given times
+         * @since 0.12.0
+         */
+        @NonNull
+        public static Buckets bucketsOf(@NonNull long[] millis) {
+            int shift = weekShiftOf(nameTable().firstDayOfWeek);
+            Buckets buckets = new Buckets(millis.length);
+            TimeZone zone = defaultZone();
+            long previousDay = Long.MIN_VALUE;
+            int month = 0;
+            for (int i = 0; i < millis.length; i++) {
+                long day = floorDiv(localOf(zone, millis[i]), DAY_MILLIS);
+                if (day != previousDay) {
+                    month = monthIdOf(civilOf(day));
+                    previousDay = day;
+                }
+                buckets.days[i] = (int) day;
+                buckets.weeks[i] = (int) floorDiv(day + shift, 7);
+                buckets.months[i] = month;
+            }
+            return buckets;
+        }
+
+        /**
+         * Obtain sections of given times from now
+         *
+         * @param millis times in milliseconds since epoch, sorted
+         * @return sections of given times
+         * @see #sectionsOf(long[], long)
+         * @since 0.12.0
+         */
+        @NonNull
+        public static Sections sectionsOf(@NonNull long[] millis) {
+            return sectionsOf(millis, now());
+        }
+
+        /**
+         * Obtain sections of given times, as today, yesterday, this week and
+         * then by month.
+         * <p>
+         * Times are expected sorted, i.e newest first, so each section is
+         * contiguous. Sections are computed in a single pass.
+         *
+         * @param millis times in milliseconds since epoch, sorted
+         * @param now    current time in milliseconds since epoch
+         * @return sections of given times
+         * @since 0.12.0
+         */
+        @NonNull
+        public static Sections sectionsOf(@NonNull long[] millis, long now) {
+            DayWindow today = todayWindowOf(now);
+            int shift = weekShiftOf(nameTable().firstDayOfWeek);
+            long thisWeek = floorDiv(today.day + shift, 7);
+
+            IntList positions = new IntList();
+            IntList kinds = new IntList();
+            IntList months = new IntList();
+            TimeZone zone = defaultZone();
+            long previousKey = Long.MIN_VALUE;
+            long previousDay = Long.MIN_VALUE;
+            int month = 0;
+            for (int i = 0; i < millis.length; i++) {
+                long day = floorDiv(localOf(zone, millis[i]), DAY_MILLIS);
+                if (day != previousDay) {
+                    month = monthIdOf(civilOf(day));
+                    previousDay = day;
+                }
+
+                int kind;
+                if (day >= today.day) {
+                    kind = Sections.TODAY;
+                } else if (day == today.day - 1) {
+                    kind = Sections.YESTERDAY;
+                } else if (floorDiv(day + shift, 7) == thisWeek) {
+                    kind = Sections.THIS_WEEK;
+                } else {
+                    kind = Sections.MONTH;
+                }
+
+                long key = kind == Sections.MONTH ? ((long) kind << 32) | (month & 0xFFFFFFFFL) : kind;
+                if (key != previousKey) {
+                    positions.add(i);
+                    kinds.add(kind);
+                    months.add(month);
+                    previousKey = key;
+                }
+            }
+            return new Sections(positions.toArray(), kinds.toArray(), months.toArray(), millis.length);
+        }
+
+        /**
+         * Obtain title of a given section, i.e Today or January 2019
+         *
+         * @param sections valid sections
+         * @param section  section index
+         * @return section title
+         * @since 0.12.0
+         */
+        @NonNull
+        public static String sectionTitleOf(@NonNull Sections sections, int section) {
+            switch (sections.getKind(section)) {
+                case Sections.TODAY:
+                    return Resources.getString(R.string.date_section_today);
+                case Sections.YESTERDAY:
+                    return Resources.getString(R.string.date_section_yesterday);
+                case Sections.THIS_WEEK:
+                    return Resources.getString(R.string.date_section_this_week);
+                default:
+                    int month = sections.getMonth(section);
+                    long day = daysOf(Sections.yearOf(month), Sections.monthOf(month) + 1, 1);
+                    long millis = localToUtc(dayWindowOf(day * DAY_MILLIS).zone, day * DAY_MILLIS);
+                    return format(new Date(millis), "LLLL yyyy");
+            }
+        }
+
+        /**
+         * Obtain days between first day of a week and 1970-01-01
+         *
+         * @param firstDayOfWeek first day of week
+         * @return shift added to epoch day before dividing by week length
+         */
+        private static int weekShiftOf(int firstDayOfWeek) {
+            return (Calendar.THURSDAY - firstDayOfWeek + 7) % 7;
+        }
+
+        private static int monthIdOf(long civil) {
+            return (int) (civil >> 16) * 12 + (int) (civil >> 8 & 0xFF);
+        }
+
+        /**
+         * Day, week and month buckets of several times in default timezone.
+         * <p>
+         * Days are days since 1970-01-01, weeks are weeks since 1970-01-01
+         * starting at first day of week of default locale, and months are
+         * {@code year * 12 + month} with zero based month. Equal ids mean
+         * same bucket.
+         *
+         * @since 0.12.0
+         */
+        public static final class Buckets {
+            private final int[] days;
+            private final int[] weeks;
+            private final int[] months;
+
+            private Buckets(int size) {
+                this.days = new int[size];
+                this.weeks = new int[size];
+                this.months = new int[size];
+            }
+
+            public int size() {
+                return days.length;
+            }
+
+            @NonNull
+            public int[] getDays() {
+                return days;
+            }
+
+            @NonNull
+            public int[] getWeeks() {
+                return weeks;
+            }
+
+            @NonNull
+            public int[] getMonths() {
+                return months;
+            }
+        }
+
+        /**
+         * Sections of sorted times, ready for sticky headers of a list.
+         * <pre>
+         * Sections sections = Dates.sectionsOf(times);
+         * int section = sections.sectionOf(position);
+         * boolean header = sections.isSectionStart(position);
+         * String title = Dates.sectionTitleOf(sections, section);
+         * </pre>
+         *
+         * @since 0.12.0
+         */
+        public static final class Sections {
+            /**
+             * Section of times within today, or later
+             */
+            public static final int TODAY = 0;
+
+            /**
+             * Section of times within yesterday
+             */
+            public static final int YESTERDAY = 1;
+
+            /**
+             * Section of older times within current week
+             */
+            public static final int THIS_WEEK = 2;
+
+            /**
+             * Section of older times within a month
+             */
+            public static final int MONTH = 3;
+
+            private final int[] positions;
+            private final int[] kinds;
+            private final int[] months;
+            private final int itemCount;
+
+            private Sections(int[] positions, int[] kinds, int[] months, int itemCount) {
+                this.positions = positions;
+                this.kinds = kinds;
+                this.months = months;
+                this.itemCount = itemCount;
+            }
+
+            /**
+             * Obtain number of sections
+             *
+             * @return number of sections
+             */
+            public int size() {
+                return positions.length;
+            }
+
+            /**
+             * Obtain number of sectioned items
+             *
+             * @return number of items
+             */
+            public int getItemCount() {
+                return itemCount;
+            }
+
+            /**
+             * Obtain position of first item of a given section
+             *
+             * @param section section index
+             * @return item position
+             */
+            public int getPosition(int section) {
+                return positions[section];
+            }
+
+            /**
+             * Obtain kind of a given section
+             *
+             * @param section section index
+             * @return one of {@link #TODAY}, {@link #YESTERDAY}, {@link #THIS_WEEK}
+             * or {@link #MONTH}
+             */
+            public int getKind(int section) {
+                return kinds[section];
+            }
+
+            /**
+             * Obtain month of a given section
+             *
+             * @param section section index
+             * @return month as {@code year * 12 + month}, with zero based month
+             */
+            public int getMonth(int section) {
+                return months[section];
+            }
+
+            /**
+             * Obtain section of a given item
+             *
+             * @param position item position
+             * @return section index
+             */
+            public int sectionOf(int position) {
+                if (position < 0 || position >= itemCount) {
+                    throw new IndexOutOfBoundsException("Position: " + position + ", Size: " + itemCount);
+                }
+                int index = Arrays.binarySearch(positions, position);
+                return index >= 0 ? index : -index - 2;
+            }
+
+            /**
+             * Verify if a given item starts a section
+             *
+             * @param position item position
+             * @return if item is first of its section
+             */
+            public boolean isSectionStart(int position) {
+                return Arrays.binarySearch(positions, position) >= 0;
+            }
+
+            private static int yearOf(int month) {
+                return (int) floorDiv(month, 12);
+            }
+
+            private static int monthOf(int month) {
+                return month - yearOf(month) * 12;
+            }
         }
+    }
 
+    /**
+     * Primitive returning variants of boxed {@link Strings}, {@link Value},
+     * {@link Dates} and {@link Network} helpers.
+     * <p>
+     * Intended for hot paths such as adapter bind loops, where boxed results
+     * are unboxed right away. Boxed helpers delegate here.
+     *
+     * @since 0.12.0
+     */
+    public static class Fast {
         /**
-         * Verify if checked date is after base date
+         * Check if provided {@link String} value is empty
          *
-         * @param base    date to compared to
-         * @param checked date to check
-         * @return if checked date is after base date
-         * @since 0.1.0
+         * @param string value to check
+         * @return if string is null or empty
+         * @since 0.12.0
          */
-        @NonNull
-        public static synchronized Boolean isAfter(@NonNull Date base, @NonNull Date checked) {
-            return checked.after(base);
+        public static boolean isEmpty(@Nullable String string) {
+            return string == null || string.length() == 0;
         }
 
         /**
-         * Obtain a yesterday which if nth days from a specific date
+         * Check if any of provided {@link String} values is empty
          *
-         * @param date valid date
-         * @param days valid amount of days
-         * @return date before given date
-         * @since 0.1.0
+         * @param strings values to check
+         * @return if any string is null or empty
+         * @since 0.12.0
          */
-        @NonNull
-        public static synchronized Date before(@NonNull Date date, @NonNull Integer days) {
-            Integer length = days;
-            if (length > 0) {
-                length = 0 - length;
+        public static boolean areEmpty(@Nullable String... strings) {
+            if (strings == null) {
+                return false;
             }
-            return addDays(date, length);
+            for (String string : strings) {
+                if (isEmpty(string)) {
+                    return true;
+                }
+            }
+            return false;
         }
 
         /**
-         * Obtain a tomorrow which if nth days from a specific date
+         * Check if given {@link Collection} is null or empty
          *
-         * @param date valid date
-         * @param days valid amount of days
-         * @return date after given date
-         * @since 0.1.0
+         * @param value collection to check
+         * @return if collection is null or empty
+         * @since 0.12.0
          */
-        @NonNull
-        public static synchronized Date after(@NonNull Date date, @NonNull Integer days) {
-            Integer length = days;
-            if (length < 0) {
-                length = 0 - length;
-            }
-            return addDays(date, length);
+        public static boolean isEmpty(@Nullable Collection<?> value) {
+            return value == null || value.isEmpty();
         }
 
         /**
-         * Add days to a given date object and return a new date
+         * Verify if checked date is before base date
          *
-         * @param date valid date
-         * @param days valid amount of days to be added
-         * @return date with days added and time cleared
-         * @since 0.1.0
+         * @param base    date to compared to
+         * @param checked date to check
+         * @return if checked date is before base date
+         * @since 0.12.0
          */
-        @NonNull
-        public static synchronized Date addDays(@NonNull Date date, @NonNull Integer days) {
-            Calendar calendar = Calendar.getInstance();
-            Date dt = clearTime(date);
-            calendar.setTime(dt);
-
-            calendar.add(Calendar.DATE, days);
-
-            return calendar.getTime();
+        public static boolean isBefore(@NonNull Date base, @NonNull Date checked) {
+            return checked.getTime() < base.getTime();
         }
 
         /**
-         * Clear milliseconds, seconds, minutes and hours from a date
+         * Verify if checked date is after base date
          *
-         * @param date valid date
-         * @return date with milliseconds, seconds, minutes and hours cleared
-         * @since 0.1.0
+         * @param base    date to compared to
+         * @param checked date to check
+         * @return if checked date is after base date
+         * @since 0.12.0
          */
-        @NonNull
-        public static synchronized Date clearTime(@NonNull Date date) {
-            Calendar calendar = Calendar.getInstance();
-            calendar.setTime((Date) date.clone());
-
-            int mils = calendar.getActualMinimum(Calendar.MILLISECOND);
-            int secs = calendar.getActualMinimum(Calendar.SECOND);
-            int mins = calendar.getActualMinimum(Calendar.MINUTE);
-            int hrs = calendar.getActualMinimum(Calendar.HOUR_OF_DAY);
-
-            calendar.set(Calendar.MILLISECOND, mils);
-            calendar.set(Calendar.SECOND, secs);
-            calendar.set(Calendar.MINUTE, mins);
-            calendar.set(Calendar.HOUR_OF_DAY, hrs);
-
-            return calendar.getTime();
+        public static boolean isAfter(@NonNull Date base, @NonNull Date checked) {
+            return checked.getTime() > base.getTime();
         }
 
         /**
-         * Obtain mid night of a given date
+         * Verify if checked date is before today
          *
-         * @param date valid date
-         * @return date reset to its mid night time
-         * @since 0.1.0
+         * @param checked date to check
+         * @return if checked date is before today
+         * @since 0.12.0
          */
-        @NonNull
-        public static synchronized Date midNightOf(@NonNull Date date) {
-            Calendar calendar = Calendar.getInstance();
-            calendar.setTime((Date) date.clone());
-
-            int mils = calendar.getActualMaximum(Calendar.MILLISECOND);
-            int secs = calendar.getActualMaximum(Calendar.SECOND);
-            int mins = calendar.getActualMaximum(Calendar.MINUTE);
-            int hrs = calendar.getActualMaximum(Calendar.HOUR_OF_DAY);
-
-            calendar.set(Calendar.MILLISECOND, mils);
-            calendar.set(Calendar.SECOND, secs);
-            calendar.set(Calendar.MINUTE, mins);
-            calendar.set(Calendar.HOUR_OF_DAY, hrs);
-
-            return calendar.getTime();
+        public static boolean isBeforeToday(@NonNull Date checked) {
+            return checked.getTime() < Dates.todayMillis();
         }
 
         /**
-         * Obtain year of current time
+         * Verify if checked date is after today
          *
-         * @return year of current time
-         * @since 0.9.0
+         * @param checked date to check
+         * @return if checked date is after today
+         * @since 0.12.0
          */
-        @NonNull
-        public static synchronized Integer yearOf() {
-            return yearOf(new Date());
+        public static boolean isAfterToday(@NonNull Date checked) {
+            return checked.getTime() > Dates.todayMillis();
         }
 
         /**
@@ -925,26 +3414,21 @@ public class Common {
          *
          * @param date valid date
          * @return year of a given date
-         * @since 0.9.0
+         * @since 0.12.0
          */
-        @NonNull
-        public static synchronized Integer yearOf(@NonNull Date date) {
-            Calendar calendar = Calendar.getInstance();
-            calendar.setTime((Date) date.clone());
-
-            int year = calendar.get(Calendar.YEAR);
-            return year;
+        public static int yearOf(@NonNull Date date) {
+            return yearOf(date.getTime());
         }
 
         /**
-         * Obtain month of current time
+         * Obtain year of a given time
          *
-         * @return month of current time
-         * @since 0.9.0
+         * @param millis valid time in milliseconds since epoch
+         * @return year of a given time
+         * @since 0.12.0
          */
-        @NonNull
-        public static synchronized Integer monthOf() {
-            return monthOf(new Date());
+        public static int yearOf(long millis) {
+            return fieldOf(millis, Calendar.YEAR);
         }
 
         /**
@@ -952,107 +3436,87 @@ public class Common {
          *
          * @param date valid date
          * @return month of a given date
-         * @since 0.9.0
+         * @since 0.12.0
          */
-        @NonNull
-        public static synchronized Integer monthOf(@NonNull Date date) {
-            Calendar calendar = Calendar.getInstance();
-            calendar.setTime((Date) date.clone());
-
-            int month = calendar.get(Calendar.MONTH);
-            return month;
+        public static int monthOf(@NonNull Date date) {
+            return monthOf(date.getTime());
         }
 
         /**
-         * Obtain day of month of current time
+         * Obtain month of a given time
          *
-         * @return day of month of current time
-         * @since 0.9.0
+         * @param millis valid time in milliseconds since epoch
+         * @return month of a given time
+         * @since 0.12.0
          */
-        @NonNull
-        public static synchronized Integer dayOfMonthOf() {
-            return dayOfMonthOf(new Date());
+        public static int monthOf(long millis) {
+            return fieldOf(millis, Calendar.MONTH);
         }
 
         /**
-         * Obtain month day of a given date
+         * Obtain day of month of a given date
          *
          * @param date valid date
-         * @return month day of a given date
-         * @since 0.9.0
+         * @return day of month of a given date
+         * @since 0.12.0
          */
-        @NonNull
-        public static synchronized Integer dayOfMonthOf(@NonNull Date date) {
-            Calendar calendar = Calendar.getInstance();
-            calendar.setTime((Date) date.clone());
-
-            int monthDay = calendar.get(Calendar.DAY_OF_MONTH);
-            return monthDay;
+        public static int dayOfMonthOf(@NonNull Date date) {
+            return dayOfMonthOf(date.getTime());
         }
 
         /**
-         * Obtain week day of current time
+         * Obtain day of month of a given time
          *
-         * @return week day of current time
-         * @since 0.9.0
+         * @param millis valid time in milliseconds since epoch
+         * @return day of month of a given time
+         * @since 0.12.0
          */
-        @NonNull
-        public static synchronized Integer dayOfWeekOf() {
-            return dayOfWeekOf(new Date());
+        public static int dayOfMonthOf(long millis) {
+            return fieldOf(millis, Calendar.DAY_OF_MONTH);
         }
 
         /**
-         * Obtain week day of a given date
+         * Obtain day of week of a given date
          *
          * @param date valid date
-         * @return week day of a given date
-         * @since 0.9.0
+         * @return day of week of a given date
+         * @since 0.12.0
          */
-        @NonNull
-        public static synchronized Integer dayOfWeekOf(@NonNull Date date) {
-            Calendar calendar = Calendar.getInstance();
-            calendar.setTime((Date) date.clone());
-
-            int dayOfWeek = calendar.get(Calendar.DAY_OF_WEEK);
-            return dayOfWeek;
+        public static int dayOfWeekOf(@NonNull Date date) {
+            return dayOfWeekOf(date.getTime());
         }
 
         /**
-         * Obtain hour of day of current time in 24-hours format
+         * Obtain day of week of a given time
          *
-         * @return hour of day of current time
-         * @since 0.9.0
+         * @param millis valid time in milliseconds since epoch
+         * @return day of week of a given time
+         * @since 0.12.0
          */
-        @NonNull
-        public static synchronized Integer hourOfDayOf() {
-            return hourOfDayOf(new Date());
+        public static int dayOfWeekOf(long millis) {
+            return fieldOf(millis, Calendar.DAY_OF_WEEK);
         }
 
         /**
-         * Obtain hour of day of a given date in 24-hours format
+         * Obtain hour of day of a given date
          *
          * @param date valid date
-         * @return hour of day day of a given date
-         * @since 0.9.0
+         * @return hour of day of a given date
+         * @since 0.12.0
          */
-        @NonNull
-        public static synchronized Integer hourOfDayOf(@NonNull Date date) {
-            Calendar calendar = Calendar.getInstance();
-            calendar.setTime((Date) date.clone());
-
-            int hourOfDay = calendar.get(Calendar.HOUR_OF_DAY);
-            return hourOfDay;
+        public static int hourOfDayOf(@NonNull Date date) {
+            return hourOfDayOf(date.getTime());
         }
 
         /**
-         * Obtain minute(s) of current time
+         * Obtain hour of day of a given time
          *
-         * @return minute(s) of current time
-         * @since 0.9.0
+         * @param millis valid time in milliseconds since epoch
+         * @return hour of day of a given time
+         * @since 0.12.0
          */
-        @NonNull
-        public static synchronized Integer minuteOf() {
-            return minuteOf(new Date());
+        public static int hourOfDayOf(long millis) {
+            return fieldOf(millis, Calendar.HOUR_OF_DAY);
         }
 
         /**
@@ -1060,26 +3524,21 @@ public class Common {
          *
          * @param date valid date
          * @return minute(s) of a given date
-         * @since 0.9.0
+         * @since 0.12.0
          */
-        @NonNull
-        public static synchronized Integer minuteOf(@NonNull Date date) {
-            Calendar calendar = Calendar.getInstance();
-            calendar.setTime((Date) date.clone());
-
-            int minute = calendar.get(Calendar.MINUTE);
-            return minute;
+        public static int minuteOf(@NonNull Date date) {
+            return minuteOf(date.getTime());
         }
 
         /**
-         * Obtain second(s) of current time
+         * Obtain minute(s) of a given time
          *
-         * @return second(s) of current time
-         * @since 0.9.0
+         * @param millis valid time in milliseconds since epoch
+         * @return minute(s) of a given time
+         * @since 0.12.0
          */
-        @NonNull
-        public static synchronized Integer secondOf() {
-            return secondOf(new Date());
+        public static int minuteOf(long millis) {
+            return fieldOf(millis, Calendar.MINUTE);
         }
 
         /**
@@ -1087,77 +3546,35 @@ public class Common {
          *
          * @param date valid date
          * @return second(s) of a given date
-         * @since 0.9.0
-         */
-        @NonNull
-        public static synchronized Integer secondOf(@NonNull Date date) {
-            Calendar calendar = Calendar.getInstance();
-            calendar.setTime((Date) date.clone());
-
-            int second = calendar.get(Calendar.SECOND);
-            return second;
-        }
-
-        /**
-         * Obtain day of week display name of current time
-         *
-         * @return day of week display name of current time
-         * @since 0.10.0
+         * @since 0.12.0
          */
-        @NonNull
-        public static synchronized String dayOfWeekDisplayNameOf() {
-            return dayOfWeekDisplayNameOf(new Date());
+        public static int secondOf(@NonNull Date date) {
+            return secondOf(date.getTime());
         }
 
         /**
-         * Obtain day of week display name of a given date
+         * Obtain second(s) of a given time
          *
-         * @param date valid date
-         * @return day of week display name of a given date
-         * @since 0.10.0
+         * @param millis valid time in milliseconds since epoch
+         * @return second(s) of a given time
+         * @since 0.12.0
          */
-        @NonNull
-        public static synchronized String dayOfWeekDisplayNameOf(@NonNull Date date) {
-            Calendar calendar = Calendar.getInstance();
-            calendar.setTime((Date) date.clone());
-
-            String displayName = calendar.getDisplayName(
-                    Calendar.DAY_OF_WEEK,
-                    Calendar.LONG,
-                    Locale.getDefault()
-            );
-            return displayName;
+        public static int secondOf(long millis) {
+            return fieldOf(millis, Calendar.SECOND);
         }
 
-        /**
-         * Obtain month display name of current time
-         *
-         * @return month display name current time
-         * @since 0.10.0
-         */
-        @NonNull
-        public static synchronized String monthDisplayNameOf() {
-            return monthDisplayNameOf(new Date());
+        private static int fieldOf(long millis, int field) {
+            return Dates.fieldOf(millis, field);
         }
 
         /**
-         * Obtain month display name of a given date
+         * Check if there is internet or data connection on the device
          *
-         * @param date valid date
-         * @return month display name of a given date
-         * @since 0.10.0
+         * @return if connected or connecting
+         * @since 0.12.0
          */
-        @NonNull
-        public static synchronized String monthDisplayNameOf(@NonNull Date date) {
-            Calendar calendar = Calendar.getInstance();
-            calendar.setTime((Date) date.clone());
-
-            String displayName = calendar.getDisplayName(
-                    Calendar.MONTH,
-                    Calendar.LONG,
-                    Locale.getDefault()
-            );
-            return displayName;
+        public static boolean isConnected() {
+            return Network.monitor().isConnected();
         }
     }
 
@@ -1172,36 +3589,94 @@ public class Common {
          * @since 0.1.0
          */
         @NonNull
-        public static synchronized ConnectivityManager getConnectivityManager() {
-            if (appConnectivity == null) {
+        public static ConnectivityManager getConnectivityManager() {
+            // racy single-check: lookup is idempotent, so a duplicate is harmless
+            ConnectivityManager connectivity = appConnectivity;
+            if (connectivity == null) {
                 Context context = applicationContext();
-                appConnectivity =
+                connectivity =
                         (ConnectivityManager) context.getSystemService(Context.CONNECTIVITY_SERVICE);
+                appConnectivity = connectivity;
             }
-            return appConnectivity;
+            return connectivity;
         }
 
         /**
-         * Check if there is internet or data connection on the device
+         * Obtain process wide {@link ConnectivityMonitor}.
+         * <p>
+         * It holds a process lifetime reference, so its network callback keep
+         * {@link #isConnected()} current without binder calls. Observers and
+         * other users take their own references on top.
+         *
+         * @return valid connectivity monitor
+         * @since 0.12.0
+         */
+        @NonNull
+        public static ConnectivityMonitor monitor() {
+            ConnectivityMonitor monitor = appMonitor;
+            if (monitor == null) {
+                boolean created = false;
+                // single callback registration per process
+                synchronized (Network.class) {
+                    monitor = appMonitor;
+                    if (monitor == null) {
+                        monitor = new ConnectivityMonitor(getConnectivityManager());
+                        appMonitor = monitor;
+                        created = true;
+                    }
+                }
+                // registered outside class lock, by creator only
+                if (created) {
+                    monitor.acquire();
+                }
+            }
+            return monitor;
+        }
+
+        /**
+         * Check if there is internet or data connection on the device.
+         * <p>
+         * Reads latest state of {@link #monitor()}, without a binder call once
+         * network callback has reported.
          *
          * @since 0.1.0
          */
         @NonNull
-        public static synchronized Boolean isConnected() {
-            ConnectivityManager manager = getConnectivityManager();
-            NetworkInfo networkInfo = manager.getActiveNetworkInfo();
-            return networkInfo != null && networkInfo.isConnectedOrConnecting();
+        public static Boolean isConnected() {
+            return Fast.isConnected();
         }
 
         /**
-         * Check if throwable in net related exception
+         * Check if throwable in net related exception.
+         * <p>
+         * Causes are checked too, i.e a network exception wrapped by
+         * {@link java.util.concurrent.ExecutionException}.
          *
          * @param t thrown exception
          * @return true if so else false
          * @since 0.1.0
          */
         @NonNull
-        public static synchronized Boolean isNetworkException(@NonNull Throwable t) {
+        public static Boolean isNetworkException(@NonNull Throwable t) {
+            // walk causes, slow pointer guard against cyclic chain
+            Throwable slow = t;
+            boolean advance = false;
+            for (Throwable cause = t; cause != null; cause = cause.getCause()) {
+                if (isNetworkThrowable(cause)) {
+                    return true;
+                }
+                if (advance) {
+                    slow = slow.getCause();
+                    if (slow == cause.getCause()) {
+                        return false;
+                    }
+                }
+                advance = !advance;
+            }
+            return false;
+        }
+
+        private static boolean isNetworkThrowable(@NonNull Throwable t) {
             return (
                     t instanceof MalformedURLException ||
                             t instanceof ProtocolException ||
@@ -1221,19 +3696,77 @@ public class Common {
          * @since 0.1.0
          */
         @NonNull
-        public static synchronized Boolean isOffline(@NonNull Throwable t) {
+        public static Boolean isOffline(@NonNull Throwable t) {
             return !isConnected() || isNetworkException(t);
         }
 
         /**
-         * Expose network state changes as {@link androidx.lifecycle.LiveData}
+         * Create a durable {@link OfflineQueue}, replayed on {@link AppExecutors#networkIO()}
+         * whenever {@link #monitor()} report connectivity, and retried with backoff on
+         * {@link AppExecutors#scheduler()} after failed batches
+         *
+         * @param file      valid queue file
+         * @param transport valid transport of queued operations
+         * @return offline queue, not yet started
+         * @since 0.12.0
+         */
+        @NonNull
+        public static OfflineQueue offlineQueue(@NonNull File file,
+                                                @NonNull OfflineQueue.Transport transport) {
+            return new OfflineQueue(file, monitor(), AppExecutors.networkIO(),
+                    AppExecutors.scheduler(), transport);
+        }
+
+        /**
+         * Obtain process wide {@link RetryScheduler}, scheduling on
+         * {@link AppExecutors#scheduler()} and running on {@link AppExecutors#networkIO()}
+         *
+         * @return valid retry scheduler
+         * @since 0.12.0
+         */
+        @NonNull
+        public static RetryScheduler retryScheduler() {
+            RetryScheduler retries = appRetryScheduler;
+            if (retries == null) {
+                // resolve dependencies first, they take their own locks
+                ConnectivityMonitor monitor = monitor();
+                ScheduledExecutorService scheduler = AppExecutors.scheduler();
+                Executor executor = AppExecutors.networkIO();
+                synchronized (Network.class) {
+                    retries = appRetryScheduler;
+                    if (retries == null) {
+                        retries = new RetryScheduler(scheduler, executor, monitor,
+                                RetryScheduler.Policy.DEFAULT);
+                        appRetryScheduler = retries;
+                    }
+                }
+            }
+            return retries;
+        }
+
+        /**
+         * Expose network state changes as {@link androidx.lifecycle.LiveData}.
+         * <p>
+         * Same instance is shared by all callers, backed by {@link #monitor()}.
          *
          * @since 0.1.0
          */
         @MainThread
         @RequiresPermission(ACCESS_NETWORK_STATE)
-        public static synchronized ConnectivityLiveData observe() {
-            ConnectivityLiveData status = new ConnectivityLiveData(getConnectivityManager());
+        public static ConnectivityLiveData observe() {
+            ConnectivityLiveData status = appConnectivityLiveData;
+            if (status == null) {
+                // resolved first, it registers network callback on creation
+                ConnectivityMonitor monitor = monitor();
+                synchronized (Network.class) {
+                    status = appConnectivityLiveData;
+                    if (status == null) {
+                        status = new ConnectivityLiveData(
+                                monitor, ConnectivityLiveData.DEFAULT_WINDOW_MILLIS);
+                        appConnectivityLiveData = status;
+                    }
+                }
+            }
             return status;
         }
 
@@ -1246,9 +3779,8 @@ public class Common {
          */
         @MainThread
         @RequiresPermission(ACCESS_NETWORK_STATE)
-        public static synchronized void observe(@NonNull LifecycleOwner owner, @NonNull Observer<Boolean> observer) {
-            ConnectivityLiveData status = new ConnectivityLiveData(getConnectivityManager());
-            status.observe(owner, observer);
+        public static void observe(@NonNull LifecycleOwner owner, @NonNull Observer<Boolean> observer) {
+            observe().observe(owner, observer);
         }
     }
 
@@ -1266,7 +3798,7 @@ public class Common {
          * @return true if success
          * @since 0.1.0
          */
-        public static synchronized Boolean navigateTo(@NonNull Locatable location) {
+        public static Boolean navigateTo(@NonNull Locatable location) {
             Float latitude = location.getLatitude();
             Float longitude = location.getLongitude();
             String address = location.getAddress();
@@ -1290,7 +3822,7 @@ public class Common {
          * @since 0.1.0
          */
         @NonNull
-        public static synchronized Boolean navigateTo(@NonNull String address) {
+        public static Boolean navigateTo(@NonNull String address) {
             String destination = "google.navigation:q=" + Uri.encode(address);
             Uri uri = Uri.parse(destination);
 
@@ -1308,7 +3840,7 @@ public class Common {
          * @since 0.1.0
          */
         @NonNull
-        public static synchronized Boolean navigateTo(@NonNull Float latitude, @NonNull Float longitude) {
+        public static Boolean navigateTo(@NonNull Float latitude, @NonNull Float longitude) {
             String destination = "google.navigation:q=" + latitude + "," + longitude;
             Uri uri = Uri.parse(destination);
 
@@ -1325,7 +3857,7 @@ public class Common {
          * @since 0.1.0
          */
         @NonNull
-        public static synchronized Boolean browse(@NonNull String url) {
+        public static Boolean browse(@NonNull String url) {
             Uri uri = Uri.parse(url);
             Intent intent = new Intent(Intent.ACTION_VIEW, uri);
             return start(intent);
@@ -1339,7 +3871,7 @@ public class Common {
          * @since 0.1.0
          */
         @NonNull
-        public static synchronized Boolean dial(@NonNull Dialable dialable) {
+        public static Boolean dial(@NonNull Dialable dialable) {
             return dial(dialable.getPhoneNumber());
         }
 
@@ -1351,7 +3883,7 @@ public class Common {
          * @since 0.1.0
          */
         @NonNull
-        public static synchronized Boolean dial(@NonNull String phoneNumber) {
+        public static Boolean dial(@NonNull String phoneNumber) {
             if (Strings.isEmpty(phoneNumber)) {
                 return false;
             }
@@ -1370,7 +3902,7 @@ public class Common {
          * @return true if started otherwise false
          * @since 0.1.0
          */
-        public static synchronized Boolean openWirelessSettings() {
+        public static Boolean openWirelessSettings() {
             Intent intent = new Intent(ACTION_WIRELESS_SETTINGS);
             return start(intent);
         }
@@ -1381,7 +3913,7 @@ public class Common {
          * @return true if started otherwise false
          * @since 0.1.0
          */
-        public static synchronized Boolean openApplicationSettings() {
+        public static Boolean openApplicationSettings() {
             String packageName = applicationContext().getPackageName();
             Uri uri = Uri.parse("package:" + packageName);
 
@@ -1397,7 +3929,7 @@ public class Common {
          * @since 0.1.0
          */
         @NonNull
-        public static synchronized Boolean start(@NonNull Intent intent) {
+        public static Boolean start(@NonNull Intent intent) {
             try {
                 if (canHandle(intent)) {
                     intent.addFlags(Intent.FLAG_ACTIVITY_NEW_TASK);
@@ -1419,7 +3951,7 @@ public class Common {
          * @since 0.1.0
          */
         @NonNull
-        public static synchronized Boolean canHandle(@NonNull Intent intent) {
+        public static Boolean canHandle(@NonNull Intent intent) {
             ComponentName component = intent.resolveActivity(packageManager());
             if (component != null) {
                 return true;
@@ -1447,7 +3979,7 @@ public class Common {
          * @since 0.1.0
          */
         @NonNull
-        public static synchronized Bundle from(@NonNull Bundleable... bundles) {
+        public static Bundle from(@NonNull Bundleable... bundles) {
             Bundle results = new Bundle();
             for (Bundleable bundle : bundles) {
                 try {
@@ -1466,7 +3998,7 @@ public class Common {
          * @since 0.1.0
          */
         @NonNull
-        public static synchronized Bundle from(@NonNull Bundle... bundles) {
+        public static Bundle from(@NonNull Bundle... bundles) {
             Bundle results = new Bundle();
             for (Bundle bundle : bundles) {
                 try {
@@ -1484,7 +4016,7 @@ public class Common {
          * @since 0.1.0
          */
         @NonNull
-        public static synchronized Bundle defaults() {
+        public static Bundle defaults() {
             Bundle params = new Bundle();
 
             params.putString(PACKAGE, applicationContext().getPackageName());
@@ -1502,7 +4034,7 @@ public class Common {
          * @since 0.1.0
          */
         @NonNull
-        public static synchronized Bundle empty() {
+        public static Bundle empty() {
             return new Bundle();
         }
     }
@@ -1521,7 +4053,7 @@ public class Common {
          * @param listener     callback to invoke on accept or cancel
          * @since 0.1.0
          */
-        public static synchronized void show(
+        public static void show(
                 @NonNull Context context,
                 @StringRes Integer titleResId,
                 @StringRes Integer messageResId,
@@ -1544,7 +4076,7 @@ public class Common {
          * @param listener     callback to invoke on accept or cancel
          * @since 0.1.0
          */
-        public static synchronized void show(
+        public static void show(
                 @NonNull Context context,
                 @StyleRes Integer themeResId,
                 @StringRes Integer titleResId,
@@ -1569,7 +4101,7 @@ public class Common {
          * @param listener        callback to invoke on accept or cancel
          * @since 0.1.0
          */
-        public static synchronized void show(
+        public static void show(
                 @NonNull Context context,
                 @StringRes Integer titleResId,
                 @StringRes Integer messageResId,
@@ -1596,7 +4128,7 @@ public class Common {
          * @param listener        callback to invoke on accept or cancel
          * @since 0.1.0
          */
-        public static synchronized void show(
+        public static void show(
                 @NonNull Context context,
                 @StyleRes Integer themeResId,
                 @StringRes Integer titleResId,
@@ -1657,7 +4189,7 @@ public class Common {
          * @since 0.1.0
          */
         @MainThread
-        public static synchronized void request(
+        public static void request(
                 @NonNull Fragment fragment,
                 @NonNull OnGrantedListener listener,
                 @Nullable String... permissions
@@ -1674,7 +4206,7 @@ public class Common {
          * @since 0.1.0
          */
         @MainThread
-        public static synchronized void request(
+        public static void request(
                 @NonNull FragmentActivity activity,
                 @NonNull OnGrantedListener listener,
                 @Nullable String... permissions
@@ -1745,13 +4277,6 @@ public class Common {
         private static final int MAX_POOL_SIZE = CPU_COUNT * 2 + 1;
         private static final long KEEP_ALIVE_TIME = 1L;
 
-        // executors
-        private static Executor schedule;
-        private static Executor background;
-        private static Executor diskIO;
-        private static Executor networkIO;
-        private static Executor mainThread;
-
         /**
          * Provide background operations executor that executes tasks in parallel.
          *
@@ -1759,19 +4284,8 @@ public class Common {
          * @since 0.2.0
          */
         @NonNull
-        public static synchronized Executor background() {
-            if (background == null) {
-                ThreadPoolExecutor executor = new ThreadPoolExecutor(
-                        CORE_POOL_SIZE,
-                        MAX_POOL_SIZE,
-                        KEEP_ALIVE_TIME,
-                        TimeUnit.SECONDS,
-                        new LinkedBlockingQueue<Runnable>()
-                );
-                executor.allowCoreThreadTimeOut(true);
-                background = executor;
-            }
-            return background;
+        public static Executor background() {
+            return BackgroundHolder.INSTANCE;
         }
 
         /**
@@ -1781,11 +4295,19 @@ public class Common {
          * @since 0.2.0
          */
         @NonNull
-        public static synchronized Executor schedule() {
-            if (schedule == null) {
-                schedule = Executors.newSingleThreadScheduledExecutor();
-            }
-            return schedule;
+        public static Executor schedule() {
+            return ScheduleHolder.INSTANCE;
+        }
+
+        /**
+         * Provide schedule operations executor, for delayed tasks
+         *
+         * @return schedule executor
+         * @since 0.12.0
+         */
+        @NonNull
+        public static ScheduledExecutorService scheduler() {
+            return ScheduleHolder.INSTANCE;
         }
 
         /**
@@ -1795,25 +4317,39 @@ public class Common {
          * @since 0.2.0
          */
         @NonNull
-        public static synchronized Executor diskIO() {
-            if (diskIO == null) {
-                diskIO = Executors.newSingleThreadExecutor();
-            }
-            return diskIO;
+        public static Executor diskIO() {
+            return DiskIOHolder.INSTANCE;
         }
 
         /**
-         * Provide network operations executor
+         * Provide network operations executor.
+         * <p>
+         * Concurrency is resized at runtime to suit current {@link NetworkClass},
+         * once application context is available.
          *
          * @return disk executor
          * @since 0.2.0
          */
         @NonNull
-        public static synchronized Executor networkIO() {
-            if (networkIO == null) {
-                networkIO = Executors.newFixedThreadPool(3);
+        public static Executor networkIO() {
+            NetworkExecutor executor = NetworkIOHolder.INSTANCE;
+            // attach lazily and outside any lock, so class init never wait on a monitor
+            if (executor.getMonitor() == null && appProvider != null) {
+                executor.attach(Network.monitor());
             }
-            return networkIO;
+            return executor;
+        }
+
+        /**
+         * Obtain recent concurrency changes of {@link #networkIO()}, which
+         * follow {@link NetworkClass} of current network
+         *
+         * @return network executor metrics
+         * @since 0.12.0
+         */
+        @NonNull
+        public static NetworkExecutor.Metrics networkIOMetrics() {
+            return NetworkIOHolder.INSTANCE.metrics();
         }
 
         /**
@@ -1823,11 +4359,42 @@ public class Common {
          * @since 0.2.0
          */
         @NonNull
-        public static synchronized Executor mainThread() {
-            if (mainThread == null) {
-                mainThread = new MainThreadExecutor();
+        public static Executor mainThread() {
+            return MainThreadHolder.INSTANCE;
+        }
+
+        // lazy executor holders, initialized on first use by class loading
+        private static class BackgroundHolder {
+            private static final Executor INSTANCE = newBackgroundExecutor();
+
+            private static Executor newBackgroundExecutor() {
+                ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                        CORE_POOL_SIZE,
+                        MAX_POOL_SIZE,
+                        KEEP_ALIVE_TIME,
+                        TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<Runnable>()
+                );
+                executor.allowCoreThreadTimeOut(true);
+                return executor;
             }
-            return mainThread;
+        }
+
+        private static class ScheduleHolder {
+            private static final ScheduledExecutorService INSTANCE =
+                    Executors.newSingleThreadScheduledExecutor();
+        }
+
+        private static class DiskIOHolder {
+            private static final Executor INSTANCE = Executors.newSingleThreadExecutor();
+        }
+
+        private static class NetworkIOHolder {
+            private static final NetworkExecutor INSTANCE = new NetworkExecutor(3);
+        }
+
+        private static class MainThreadHolder {
+            private static final Executor INSTANCE = new MainThreadExecutor();
         }
 
         private static class MainThreadExecutor implements Executor {
@@ -1856,7 +4423,7 @@ public class Common {
          * @since 0.11.0
          */
         @NonNull
-        public static synchronized String getString(@StringRes int resId) {
+        public static String getString(@StringRes int resId) {
             Context context = applicationContext();
             String resString = context.getString(resId);
             return resString;
@@ -1870,7 +4437,7 @@ public class Common {
          * @since 0.11.0
          */
         @NonNull
-        public static synchronized String getString(@StringRes int resId, Object... formatArgs) {
+        public static String getString(@StringRes int resId, Object... formatArgs) {
             Context context = applicationContext();
             String resString = context.getString(resId, formatArgs);
             return resString;
@@ -1885,7 +4452,7 @@ public class Common {
          * @since 0.11.0
          */
         @NonNull
-        public static synchronized Integer getColor(@ColorRes int resId) {
+        public static Integer getColor(@ColorRes int resId) {
             Context context = applicationContext();
             int color = ContextCompat.getColor(context, resId);
             return color;
@@ -4,7 +4,8 @@ import androidx.annotation.NonNull;
 import androidx.collection.ArrayMap;
 
 import com.github.lykmapipo.common.Common;
-import com.google.gson.Gson;
+import com.github.lykmapipo.common.util.IntSet;
+import com.github.lykmapipo.common.util.LongSet;
 
 import java.util.HashMap;
 import java.util.List;
@@ -42,9 +43,6 @@ public class Query {
     protected static final String KEY_SORT = "sort";
     protected static final String KEY_POPULATE = "populate";
 
-    // default gson convertor
-    private static Gson gson = Common.gson();
-
     // specify search query condition
     protected String q;
 
@@ -70,7 +68,7 @@ public class Query {
      * @since 0.1.0
      */
     @NonNull
-    public static synchronized Query create() {
+    public static Query create() {
         Query query = new Query();
         query.page(1L);
         query.limit(10L);
@@ -85,7 +83,7 @@ public class Query {
      * @since 0.1.0
      */
     @NonNull
-    public static synchronized Query create(@NonNull Long page) {
+    public static Query create(@NonNull Long page) {
         Query query = new Query();
         query.page(page);
         query.limit(10L);
@@ -100,7 +98,7 @@ public class Query {
      * @since 0.1.0
      */
     @NonNull
-    public static synchronized Query create(@NonNull String q) {
+    public static Query create(@NonNull String q) {
         Query query = new Query();
         query.search(q);
         query.limit(10L);
@@ -116,7 +114,7 @@ public class Query {
      * @since 0.1.0
      */
     @NonNull
-    public static synchronized Query create(@NonNull String q, @NonNull Long page) {
+    public static Query create(@NonNull String q, @NonNull Long page) {
         Query query = new Query();
         query.search(q);
         query.page(page);
@@ -131,7 +129,7 @@ public class Query {
      * @since 0.1.0
      */
     @NonNull
-    public static synchronized Map<String, String> defaultQueryMap() {
+    public static Map<String, String> defaultQueryMap() {
         Query query = create();
         return query.toQueryMap();
     }
@@ -263,13 +261,13 @@ public class Query {
 
         // handle filter
         if (filter != null && !filter.isEmpty()) {
-            String queryFilter = gson.toJson(filter);
+            String queryFilter = Common.gson().toJson(filter);
             queryMap.put(KEY_FILTER, queryFilter);
         }
 
         // handle sort
         if (sort != null && !sort.isEmpty()) {
-            String querySort = gson.toJson(sort);
+            String querySort = Common.gson().toJson(sort);
             queryMap.put(KEY_SORT, querySort);
         }
 
@@ -291,7 +289,7 @@ public class Query {
     @Override
     @NonNull
     public String toString() {
-        return gson.toJson(toQueryMap());
+        return Common.gson().toJson(toQueryMap());
     }
 
     public String search() {
@@ -351,7 +349,7 @@ public class Query {
          * @link https://docs.mongodb.com/manual/reference/operator/query/eq/#op._S_eq
          * @since 0.1.0
          */
-        public static synchronized <V> Map<String, Map<String, V>> $eq(@NonNull String field, V value) {
+        public static <V> Map<String, Map<String, V>> $eq(@NonNull String field, V value) {
             Map<String, V> condition = Common.Value.mapOf($eq, value);
             Map<String, Map<String, V>> criteria = Common.Value.mapOf(field, condition);
             return criteria;
@@ -366,7 +364,7 @@ public class Query {
          * @link https://docs.mongodb.com/manual/reference/operator/query/gt/#op._S_gt
          * @since 0.1.0
          */
-        public static synchronized <V> Map<String, Map<String, V>> $gt(@NonNull String field, V value) {
+        public static <V> Map<String, Map<String, V>> $gt(@NonNull String field, V value) {
             Map<String, V> condition = Common.Value.mapOf($gt, value);
             Map<String, Map<String, V>> criteria = Common.Value.mapOf(field, condition);
             return criteria;
@@ -381,7 +379,7 @@ public class Query {
          * @link https://docs.mongodb.com/manual/reference/operator/query/gte/#op._S_gte
          * @since 0.1.0
          */
-        public static synchronized <V> Map<String, Map<String, V>> $gte(@NonNull String field, V value) {
+        public static <V> Map<String, Map<String, V>> $gte(@NonNull String field, V value) {
             Map<String, V> condition = Common.Value.mapOf($gte, value);
             Map<String, Map<String, V>> criteria = Common.Value.mapOf(field, condition);
             return criteria;
@@ -402,6 +400,36 @@ public class Query {
             return criteria;
         }
 
+        /**
+         * Specifies is in condition of unboxed ids
+         *
+         * @param field valid field
+         * @param value valid value
+         * @return valid equal field criteria
+         * @link https://docs.mongodb.com/manual/reference/operator/query/in/#op._S_in
+         * @since 0.12.0
+         */
+        public static Map<String, Map<String, IntSet>> $in(@NonNull String field, @NonNull IntSet value) {
+            Map<String, IntSet> condition = Common.Value.mapOf($in, value);
+            Map<String, Map<String, IntSet>> criteria = Common.Value.mapOf(field, condition);
+            return criteria;
+        }
+
+        /**
+         * Specifies is in condition of unboxed ids
+         *
+         * @param field valid field
+         * @param value valid value
+         * @return valid equal field criteria
+         * @link https://docs.mongodb.com/manual/reference/operator/query/in/#op._S_in
+         * @since 0.12.0
+         */
+        public static Map<String, Map<String, LongSet>> $in(@NonNull String field, @NonNull LongSet value) {
+            Map<String, LongSet> condition = Common.Value.mapOf($in, value);
+            Map<String, Map<String, LongSet>> criteria = Common.Value.mapOf(field, condition);
+            return criteria;
+        }
+
         /**
          * Specifies less than condition
          *
@@ -411,7 +439,7 @@ public class Query {
          * @link https://docs.mongodb.com/manual/reference/operator/query/lt/#op._S_lt
          * @since 0.1.0
          */
-        public static synchronized <V> Map<String, Map<String, V>> $lt(@NonNull String field, V value) {
+        public static <V> Map<String, Map<String, V>> $lt(@NonNull String field, V value) {
             Map<String, V> condition = Common.Value.mapOf($lt, value);
             Map<String, Map<String, V>> criteria = Common.Value.mapOf(field, condition);
             return criteria;
@@ -426,7 +454,7 @@ public class Query {
          * @link https://docs.mongodb.com/manual/reference/operator/query/ne/#op._S_ne
          * @since 0.1.0
          */
-        public static synchronized <V> Map<String, Map<String, V>> $lte(@NonNull String field, V value) {
+        public static <V> Map<String, Map<String, V>> $lte(@NonNull String field, V value) {
             Map<String, V> condition = Common.Value.mapOf($lte, value);
             Map<String, Map<String, V>> criteria = Common.Value.mapOf(field, condition);
             return criteria;
@@ -441,7 +469,7 @@ public class Query {
          * @link https://docs.mongodb.com/manual/reference/operator/query/eq/#op._S_eq
          * @since 0.1.0
          */
-        public static synchronized <V> Map<String, Map<String, V>> $ne(@NonNull String field, V value) {
+        public static <V> Map<String, Map<String, V>> $ne(@NonNull String field, V value) {
             Map<String, V> condition = Common.Value.mapOf($ne, value);
             Map<String, Map<String, V>> criteria = Common.Value.mapOf(field, condition);
             return criteria;
@@ -456,12 +484,42 @@ public class Query {
          * @link https://docs.mongodb.com/manual/reference/operator/query/nin/#op._S_nin
          * @since 0.1.0
          */
-        public static synchronized <V> Map<String, Map<String, Set<V>>> $nin(@NonNull String field, V... value) {
+        public static <V> Map<String, Map<String, Set<V>>> $nin(@NonNull String field, V... value) {
             Map<String, Set<V>> condition = Common.Value.mapOf($nin, value);
             Map<String, Map<String, Set<V>>> criteria = Common.Value.mapOf(field, condition);
             return criteria;
         }
 
+        /**
+         * Specifies is not in condition of unboxed ids
+         *
+         * @param field valid field
+         * @param value valid value
+         * @return valid equal field criteria
+         * @link https://docs.mongodb.com/manual/reference/operator/query/nin/#op._S_nin
+         * @since 0.12.0
+         */
+        public static Map<String, Map<String, IntSet>> $nin(@NonNull String field, @NonNull IntSet value) {
+            Map<String, IntSet> condition = Common.Value.mapOf($nin, value);
+            Map<String, Map<String, IntSet>> criteria = Common.Value.mapOf(field, condition);
+            return criteria;
+        }
+
+        /**
+         * Specifies is not in condition of unboxed ids
+         *
+         * @param field valid field
+         * @param value valid value
+         * @return valid equal field criteria
+         * @link https://docs.mongodb.com/manual/reference/operator/query/nin/#op._S_nin
+         * @since 0.12.0
+         */
+        public static Map<String, Map<String, LongSet>> $nin(@NonNull String field, @NonNull LongSet value) {
+            Map<String, LongSet> condition = Common.Value.mapOf($nin, value);
+            Map<String, Map<String, LongSet>> criteria = Common.Value.mapOf(field, condition);
+            return criteria;
+        }
+
         /**
          * Performs a logical AND operation on an array of one or more expressions
          *
@@ -470,7 +528,7 @@ public class Query {
          * @link https://docs.mongodb.com/manual/reference/operator/query/and/#op._S_and
          * @since 0.1.0
          */
-        public static synchronized Map<String, List<Object>> $and(Object... criterias) {
+        public static Map<String, List<Object>> $and(Object... criterias) {
             List<Object> conditions = Common.Value.listOf(criterias);
             Map<String, List<Object>> and = Common.Value.mapOf($and, conditions);
             return and;
@@ -484,7 +542,7 @@ public class Query {
          * @link https://docs.mongodb.com/manual/reference/operator/query/or/#op._S_or
          * @since 0.1.0
          */
-        public static synchronized Map<String, List<Object>> $or(Object... criterias) {
+        public static Map<String, List<Object>> $or(Object... criterias) {
             List<Object> conditions = Common.Value.listOf(criterias);
             Map<String, List<Object>> or = Common.Value.mapOf($or, conditions);
             return or;
@@ -0,0 +1,98 @@
+package com.github.lykmapipo.common.gson;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link TypeAdapterFactory} which provides compile time generated
+ * {@link TypeAdapter} of models with {@link com.google.gson.annotations.Expose} fields.
+ * <p>
+ * Adapters are generated by {@code compiler} module annotation processor
+ * as {@code <Model>_ExposeTypeAdapter} in model package. Models without generated
+ * adapter fall back to gson reflective adapter.
+ *
+ * @author lally elias <lallyelias87@gmail.com>
+ * @since 0.12.0
+ */
+public final class ExposeTypeAdapterFactory implements TypeAdapterFactory {
+    // generated adapter class name suffix
+    public static final String SUFFIX = "_ExposeTypeAdapter";
+
+    // marker of model without generated adapter
+    private static final Object MISSING = new Object();
+
+    // generated adapter constructors, looked up once per model
+    private final ConcurrentHashMap<Class<?>, Object> constructors =
+            new ConcurrentHashMap<Class<?>, Object>();
+
+    @Nullable
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(@NonNull Gson gson, @NonNull TypeToken<T> type) {
+        // generated adapters only bind non generic models
+        if (!(type.getType() instanceof Class)) {
+            return null;
+        }
+
+        Constructor<?> constructor = constructorOf(type.getRawType());
+        if (constructor == null) {
+            return null;
+        }
+
+        try {
+            return (TypeAdapter<T>) constructor.newInstance(gson);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Obtain generated adapter constructor of a given model
+     *
+     * @param model valid model class
+     * @return adapter constructor or null
+     */
+    @Nullable
+    private Constructor<?> constructorOf(@NonNull Class<?> model) {
+        Object constructor = constructors.get(model);
+        if (constructor == null) {
+            constructor = lookup(model);
+            constructors.putIfAbsent(model, constructor);
+        }
+        return constructor == MISSING ? null : (Constructor<?>) constructor;
+    }
+
+    @NonNull
+    private static Object lookup(@NonNull Class<?> model) {
+        if (!isCandidate(model)) {
+            return MISSING;
+        }
+        try {
+            String name = model.getName().replace('$', '_') + SUFFIX;
+            Class<?> adapter = Class.forName(name, true, model.getClassLoader());
+            return adapter.getConstructor(Gson.class);
+        } catch (Exception e) {
+            return MISSING;
+        }
+    }
+
+    private static boolean isCandidate(@NonNull Class<?> model) {
+        if (model.isPrimitive() || model.isArray() || model.isInterface()
+                || model.isEnum() || Modifier.isAbstract(model.getModifiers())) {
+            return false;
+        }
+        String name = model.getName();
+        return !(name.startsWith("java.") || name.startsWith("javax.")
+                || name.startsWith("android.") || name.startsWith("androidx.")
+                || name.startsWith("com.google.gson."));
+    }
+}
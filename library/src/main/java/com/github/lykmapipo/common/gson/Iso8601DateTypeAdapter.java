@@ -0,0 +1,77 @@
+package com.github.lykmapipo.common.gson;
+
+import com.github.lykmapipo.common.Common;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A {@link Date} {@link TypeAdapter} which read and write ISO 8601 dates
+ * through {@link Common.Dates#parseIso(CharSequence, long)} and
+ * {@link Common.Dates#formatIso(long)}.
+ * <p>
+ * Dates which are not ISO 8601 fall back to gson default date formats, so
+ * previously written json is still readable.
+ *
+ * @author lally elias <lallyelias87@gmail.com>
+ * @since 0.12.0
+ */
+public final class Iso8601DateTypeAdapter extends TypeAdapter<Date> {
+    // refs
+    private final List<DateFormat> fallbacks = new ArrayList<DateFormat>();
+
+    public Iso8601DateTypeAdapter() {
+        // same as gson built in date adapter
+        fallbacks.add(DateFormat.getDateTimeInstance(DateFormat.DEFAULT, DateFormat.DEFAULT, Locale.US));
+        if (!Locale.getDefault().equals(Locale.US)) {
+            fallbacks.add(DateFormat.getDateTimeInstance(DateFormat.DEFAULT, DateFormat.DEFAULT));
+        }
+    }
+
+    @Override
+    public void write(JsonWriter out, Date value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.value(Common.Dates.formatIso(value.getTime()));
+    }
+
+    @Override
+    public Date read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        String value = in.nextString();
+        long millis = Common.Dates.parseIso(value, Long.MIN_VALUE);
+        if (millis != Long.MIN_VALUE) {
+            return new Date(millis);
+        }
+        return parseFallback(value);
+    }
+
+    private Date parseFallback(String value) {
+        // DateFormat is not thread safe
+        synchronized (fallbacks) {
+            for (DateFormat format : fallbacks) {
+                try {
+                    return format.parse(value);
+                } catch (ParseException ignored) {
+                    // try next format
+                }
+            }
+        }
+        throw new JsonSyntaxException("Unparseable date: " + value);
+    }
+}
@@ -0,0 +1,114 @@
+package com.github.lykmapipo.common.gson;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An {@link Iterator} which decode a top level json array one element at a time.
+ * <p>
+ * Only current element is held in memory, which allow to consume large arrays
+ * without materializing them nor their source string.
+ * <pre>
+ * JsonArrayIterator&lt;User&gt; users = Common.Value.iterateJson(reader, User.class);
+ * while (users.hasNext()) {
+ *     adapter.add(users.next());
+ * }
+ * users.close();
+ * </pre>
+ *
+ * @author lally elias <lallyelias87@gmail.com>
+ * @since 0.12.0
+ */
+public final class JsonArrayIterator<T> implements Iterator<T>, Closeable {
+    // refs
+    private final JsonReader reader;
+    private final TypeAdapter<T> adapter;
+    private boolean started;
+    private boolean finished;
+
+    @SuppressWarnings("unchecked")
+    public JsonArrayIterator(@NonNull Gson gson, @NonNull Reader reader, @NonNull Type type) {
+        this.reader = gson.newJsonReader(reader);
+        this.reader.setLenient(true);
+        this.adapter = (TypeAdapter<T>) gson.getAdapter(TypeToken.get(type));
+    }
+
+    /**
+     * Check if there is next array element
+     *
+     * @return true if there is next element
+     * @throws JsonIOException if reading fails
+     * @throws JsonSyntaxException if input is not a json array
+     */
+    @Override
+    public boolean hasNext() {
+        if (finished) {
+            return false;
+        }
+        try {
+            if (!started) {
+                reader.beginArray();
+                started = true;
+            }
+            if (reader.hasNext()) {
+                return true;
+            }
+            reader.endArray();
+            finished = true;
+            return false;
+        } catch (IllegalStateException e) {
+            throw new JsonSyntaxException(e);
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
+    /**
+     * Decode next array element
+     *
+     * @return next element, may be null if json element is null
+     * @throws NoSuchElementException if there is no more elements
+     */
+    @Nullable
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            return adapter.read(reader);
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("remove");
+    }
+
+    /**
+     * Close underlying {@link Reader}
+     *
+     * @throws IOException if closing fails
+     */
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        reader.close();
+    }
+}
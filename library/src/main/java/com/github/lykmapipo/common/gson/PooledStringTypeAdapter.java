@@ -0,0 +1,59 @@
+package com.github.lykmapipo.common.gson;
+
+import androidx.annotation.Nullable;
+
+import com.github.lykmapipo.common.util.StringPool;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * A {@link String} {@link TypeAdapter} which canonicalise decoded strings
+ * through an optional {@link StringPool}.
+ * <p>
+ * Without a pool it behaves as gson built in string adapter.
+ *
+ * @author lally elias <lallyelias87@gmail.com>
+ * @since 0.12.0
+ */
+public final class PooledStringTypeAdapter extends TypeAdapter<String> {
+    // refs
+    private volatile StringPool pool;
+
+    /**
+     * Set pool used to canonicalise decoded strings
+     *
+     * @param pool valid pool or null to stop pooling
+     */
+    public void setPool(@Nullable StringPool pool) {
+        this.pool = pool;
+    }
+
+    @Nullable
+    public StringPool getPool() {
+        return pool;
+    }
+
+    @Override
+    public void write(JsonWriter out, String value) throws IOException {
+        out.value(value);
+    }
+
+    @Override
+    public String read(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        // same as gson, booleans are read as strings
+        String value = token == JsonToken.BOOLEAN
+                ? Boolean.toString(in.nextBoolean())
+                : in.nextString();
+        StringPool current = pool;
+        return current == null ? value : current.intern(value);
+    }
+}
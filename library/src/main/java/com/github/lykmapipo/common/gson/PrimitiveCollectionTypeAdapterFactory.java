@@ -0,0 +1,234 @@
+package com.github.lykmapipo.common.gson;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.github.lykmapipo.common.util.IntList;
+import com.github.lykmapipo.common.util.IntMap;
+import com.github.lykmapipo.common.util.IntSet;
+import com.github.lykmapipo.common.util.LongList;
+import com.github.lykmapipo.common.util.LongMap;
+import com.github.lykmapipo.common.util.LongSet;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+
+/**
+ * A {@link TypeAdapterFactory} which write primitive collections of
+ * {@link com.github.lykmapipo.common.util} without boxing their members.
+ * <p>
+ * Lists and sets are written as json arrays of numbers, same as their boxed
+ * counterparts, and maps are written as json objects keyed by number strings.
+ *
+ * @author lally elias <lallyelias87@gmail.com>
+ * @since 0.12.0
+ */
+public final class PrimitiveCollectionTypeAdapterFactory implements TypeAdapterFactory {
+
+    @Nullable
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(@NonNull Gson gson, @NonNull TypeToken<T> type) {
+        Class<? super T> raw = type.getRawType();
+        if (raw == IntList.class) {
+            return (TypeAdapter<T>) new IntListAdapter().nullSafe();
+        }
+        if (raw == LongList.class) {
+            return (TypeAdapter<T>) new LongListAdapter().nullSafe();
+        }
+        if (raw == IntSet.class) {
+            return (TypeAdapter<T>) new IntSetAdapter().nullSafe();
+        }
+        if (raw == LongSet.class) {
+            return (TypeAdapter<T>) new LongSetAdapter().nullSafe();
+        }
+        if (raw == IntMap.class) {
+            return (TypeAdapter<T>) new IntMapAdapter<Object>(valueAdapter(gson, type)).nullSafe();
+        }
+        if (raw == LongMap.class) {
+            return (TypeAdapter<T>) new LongMapAdapter<Object>(valueAdapter(gson, type)).nullSafe();
+        }
+        return null;
+    }
+
+    /**
+     * Obtain adapter of map values from map type argument
+     *
+     * @param gson valid gson
+     * @param type map type
+     * @return value adapter, of {@link Object} if map type is raw
+     */
+    @SuppressWarnings("unchecked")
+    private static TypeAdapter<Object> valueAdapter(Gson gson, TypeToken<?> type) {
+        Type valueType = Object.class;
+        if (type.getType() instanceof ParameterizedType) {
+            valueType = ((ParameterizedType) type.getType()).getActualTypeArguments()[0];
+        }
+        return (TypeAdapter<Object>) gson.getAdapter(TypeToken.get(valueType));
+    }
+
+    private static void write(JsonWriter out, int[] values) throws IOException {
+        out.beginArray();
+        for (int value : values) {
+            out.value(value);
+        }
+        out.endArray();
+    }
+
+    private static void write(JsonWriter out, long[] values) throws IOException {
+        out.beginArray();
+        for (long value : values) {
+            out.value(value);
+        }
+        out.endArray();
+    }
+
+    private static final class IntListAdapter extends TypeAdapter<IntList> {
+        @Override
+        public void write(JsonWriter out, IntList value) throws IOException {
+            out.beginArray();
+            for (int i = 0; i < value.size(); i++) {
+                out.value(value.get(i));
+            }
+            out.endArray();
+        }
+
+        @Override
+        public IntList read(JsonReader in) throws IOException {
+            IntList list = new IntList();
+            in.beginArray();
+            while (in.hasNext()) {
+                list.add(in.nextInt());
+            }
+            in.endArray();
+            return list;
+        }
+    }
+
+    private static final class LongListAdapter extends TypeAdapter<LongList> {
+        @Override
+        public void write(JsonWriter out, LongList value) throws IOException {
+            out.beginArray();
+            for (int i = 0; i < value.size(); i++) {
+                out.value(value.get(i));
+            }
+            out.endArray();
+        }
+
+        @Override
+        public LongList read(JsonReader in) throws IOException {
+            LongList list = new LongList();
+            in.beginArray();
+            while (in.hasNext()) {
+                list.add(in.nextLong());
+            }
+            in.endArray();
+            return list;
+        }
+    }
+
+    private static final class IntSetAdapter extends TypeAdapter<IntSet> {
+        @Override
+        public void write(JsonWriter out, IntSet value) throws IOException {
+            PrimitiveCollectionTypeAdapterFactory.write(out, value.toArray());
+        }
+
+        @Override
+        public IntSet read(JsonReader in) throws IOException {
+            IntSet set = new IntSet();
+            in.beginArray();
+            while (in.hasNext()) {
+                set.add(in.nextInt());
+            }
+            in.endArray();
+            return set;
+        }
+    }
+
+    private static final class LongSetAdapter extends TypeAdapter<LongSet> {
+        @Override
+        public void write(JsonWriter out, LongSet value) throws IOException {
+            PrimitiveCollectionTypeAdapterFactory.write(out, value.toArray());
+        }
+
+        @Override
+        public LongSet read(JsonReader in) throws IOException {
+            LongSet set = new LongSet();
+            in.beginArray();
+            while (in.hasNext()) {
+                set.add(in.nextLong());
+            }
+            in.endArray();
+            return set;
+        }
+    }
+
+    private static final class IntMapAdapter<V> extends TypeAdapter<IntMap<V>> {
+        private final TypeAdapter<V> values;
+
+        IntMapAdapter(TypeAdapter<V> values) {
+            this.values = values;
+        }
+
+        @Override
+        public void write(JsonWriter out, IntMap<V> value) throws IOException {
+            out.beginObject();
+            for (int key : value.keys()) {
+                out.name(String.valueOf(key));
+                values.write(out, value.get(key));
+            }
+            out.endObject();
+        }
+
+        @Override
+        public IntMap<V> read(JsonReader in) throws IOException {
+            IntMap<V> map = new IntMap<V>();
+            in.beginObject();
+            while (in.hasNext()) {
+                // number keys are read as strings by json reader
+                int key = Integer.parseInt(in.nextName());
+                map.put(key, values.read(in));
+            }
+            in.endObject();
+            return map;
+        }
+    }
+
+    private static final class LongMapAdapter<V> extends TypeAdapter<LongMap<V>> {
+        private final TypeAdapter<V> values;
+
+        LongMapAdapter(TypeAdapter<V> values) {
+            this.values = values;
+        }
+
+        @Override
+        public void write(JsonWriter out, LongMap<V> value) throws IOException {
+            out.beginObject();
+            for (long key : value.keys()) {
+                out.name(String.valueOf(key));
+                values.write(out, value.get(key));
+            }
+            out.endObject();
+        }
+
+        @Override
+        public LongMap<V> read(JsonReader in) throws IOException {
+            LongMap<V> map = new LongMap<V>();
+            in.beginObject();
+            while (in.hasNext()) {
+                // number keys are read as strings by json reader
+                long key = Long.parseLong(in.nextName());
+                map.put(key, values.read(in));
+            }
+            in.endObject();
+            return map;
+        }
+    }
+}
@@ -1,58 +1,127 @@
 package com.github.lykmapipo.common.lifecycle;
 
 import android.net.ConnectivityManager;
-import android.net.ConnectivityManager.NetworkCallback;
-import android.net.Network;
-import android.net.NetworkInfo;
-import android.net.NetworkRequest;
-import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
 
+import androidx.annotation.NonNull;
 import androidx.lifecycle.LiveData;
 
+import com.github.lykmapipo.common.network.ConnectivityMonitor;
+
 /**
  * A {@see LiveData} class which wraps the network connection status.
  * <p>
+ * Backed by a {@link ConnectivityMonitor} listener, added when first observer
+ * become active and removed when last observer become inactive. Monitor is
+ * acquired meanwhile, so its network callback is unregistered once no one
+ * observe. Changes within coalesce window are merged and only real state
+ * changes are emitted.
+ * <p>
  * {@see https://www.brightec.co.uk/ideas/connectivitylivedata}
  *
  * @since 0.1.0
  */
 public class ConnectivityLiveData extends LiveData<Boolean> {
+    /**
+     * Default coalesce window, in milliseconds
+     *
+     * @since 0.12.0
+     */
+    public static final long DEFAULT_WINDOW_MILLIS = 300L;
+
     // refs
-    private ConnectivityManager connectivity;
-    private NetworkCallback listener = new NetworkCallback() {
+    private final ConnectivityMonitor monitor;
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Object lock = new Object();
+    private volatile long window;
+    private boolean scheduled;
+
+    private final Runnable dispatch = new Runnable() {
         @Override
-        public void onAvailable(Network network) {
-            postValue(true);
+        public void run() {
+            synchronized (lock) {
+                scheduled = false;
+            }
+            emit(monitor.isConnected());
         }
+    };
 
+    private final ConnectivityMonitor.Listener listener = new ConnectivityMonitor.Listener() {
         @Override
-        public void onLost(Network network) {
-            postValue(false);
+        public void onConnectivityChanged(@NonNull ConnectivityMonitor.Snapshot snapshot) {
+            // latest state is read on dispatch, so flapping merge into one emission
+            synchronized (lock) {
+                if (scheduled) {
+                    return;
+                }
+                scheduled = true;
+            }
+            handler.postDelayed(dispatch, window);
         }
     };
 
     public ConnectivityLiveData(ConnectivityManager connectivity) {
-        this.connectivity = connectivity;
+        this(new ConnectivityMonitor(connectivity), DEFAULT_WINDOW_MILLIS);
+    }
+
+    /**
+     * Observe a given {@link ConnectivityMonitor}
+     *
+     * @param monitor valid connectivity monitor
+     * @param window  coalesce window, in milliseconds
+     * @since 0.12.0
+     */
+    public ConnectivityLiveData(@NonNull ConnectivityMonitor monitor, long window) {
+        this.monitor = monitor;
+        this.window = Math.max(0L, window);
+    }
+
+    /**
+     * Obtain coalesce window
+     *
+     * @return coalesce window, in milliseconds
+     * @since 0.12.0
+     */
+    public long getWindow() {
+        return window;
+    }
+
+    /**
+     * Set coalesce window, changes within it are emitted once
+     *
+     * @param window coalesce window, in milliseconds
+     * @since 0.12.0
+     */
+    public void setWindow(long window) {
+        this.window = Math.max(0L, window);
     }
 
     @Override
     protected void onActive() {
         super.onActive();
 
-        NetworkInfo networkInfo = connectivity.getActiveNetworkInfo();
-        postValue(networkInfo != null && networkInfo.isConnectedOrConnecting());
-
-        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
-            connectivity.registerDefaultNetworkCallback(listener);
-        } else {
-            NetworkRequest request = new NetworkRequest.Builder().build();
-            connectivity.registerNetworkCallback(request, listener);
-        }
+        monitor.addListener(listener);
+        monitor.acquire();
+        emit(monitor.isConnected());
     }
 
     @Override
     protected void onInactive() {
         super.onInactive();
-        connectivity.unregisterNetworkCallback(listener);
+
+        monitor.removeListener(listener);
+        handler.removeCallbacks(dispatch);
+        synchronized (lock) {
+            scheduled = false;
+        }
+        monitor.release();
+    }
+
+    private void emit(boolean connected) {
+        Boolean current = getValue();
+        if (current == null || current != connected) {
+            setValue(connected);
+        }
     }
 }
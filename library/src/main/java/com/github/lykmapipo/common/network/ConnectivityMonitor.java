@@ -0,0 +1,449 @@
+package com.github.lykmapipo.common.network;
+
+import android.net.ConnectivityManager;
+import android.net.ConnectivityManager.NetworkCallback;
+import android.net.Network;
+import android.net.NetworkCapabilities;
+import android.net.NetworkInfo;
+import android.net.NetworkRequest;
+import android.os.Build;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RequiresPermission;
+import androidx.annotation.VisibleForTesting;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static android.Manifest.permission.ACCESS_NETWORK_STATE;
+
+/**
+ * Process wide connectivity state, kept current by a single registered
+ * {@link NetworkCallback}.
+ * <p>
+ * Latest state is published as an immutable {@link Snapshot} through a
+ * volatile field, so reads take no lock and make no binder call. Until the
+ * callback has reported, or while it is not registered, reads fall back to
+ * querying {@link ConnectivityManager}.
+ * <p>
+ * Callback is registered on first {@link #acquire()} and unregistered on
+ * last {@link #release()}, so it is only kept while someone needs updates.
+ * Shared monitor of {@link com.github.lykmapipo.common.Common.Network#monitor()}
+ * holds a process lifetime reference.
+ * <pre>
+ * ConnectivityMonitor monitor = Common.Network.monitor();
+ * boolean connected = monitor.isConnected();
+ * </pre>
+ *
+ * @author lally elias <lallyelias87@gmail.com>
+ * @since 0.12.0
+ */
+public final class ConnectivityMonitor {
+    // refs
+    private final ConnectivityManager connectivity;
+    private final boolean defaultNetwork;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final Object references = new Object();
+    private int referenceCount;
+    private final CopyOnWriteArrayList<Listener> listeners = new CopyOnWriteArrayList<Listener>();
+    private final Set<Network> networks = new HashSet<Network>();
+    private volatile Snapshot snapshot;
+
+    private final NetworkCallback callback = new NetworkCallback() {
+        @Override
+        public void onAvailable(Network network) {
+            Snapshot changed;
+            synchronized (networks) {
+                if (!started.get()) {
+                    return;
+                }
+                networks.add(network);
+                changed = swap(new Snapshot(true, network, classOf(network)));
+            }
+            notifyListeners(changed);
+        }
+
+        @Override
+        public void onCapabilitiesChanged(Network network, NetworkCapabilities capabilities) {
+            Snapshot changed = null;
+            synchronized (networks) {
+                if (!started.get()) {
+                    return;
+                }
+                Snapshot current = snapshot;
+                // ignore secondary networks
+                if (current == null || network.equals(current.getNetwork())) {
+                    networks.add(network);
+                    changed = swap(new Snapshot(true, network, NetworkClass.of(capabilities)));
+                }
+            }
+            notifyListeners(changed);
+        }
+
+        @Override
+        public void onLost(Network network) {
+            Snapshot changed;
+            synchronized (networks) {
+                if (!started.get()) {
+                    return;
+                }
+                networks.remove(network);
+                // a missed onLost leave dead networks behind, check active network
+                if (!defaultNetwork && !networks.isEmpty() && !query()) {
+                    networks.clear();
+                }
+                Network next = networks.isEmpty() ? null : networks.iterator().next();
+                changed = swap(new Snapshot(next != null, next, classOf(next)));
+            }
+            notifyListeners(changed);
+        }
+
+        @Override
+        public void onUnavailable() {
+            Snapshot changed;
+            synchronized (networks) {
+                if (!started.get()) {
+                    return;
+                }
+                networks.clear();
+                changed = swap(new Snapshot(false, null));
+            }
+            notifyListeners(changed);
+        }
+    };
+
+    public ConnectivityMonitor(@NonNull ConnectivityManager connectivity) {
+        this(connectivity, Build.VERSION.SDK_INT >= Build.VERSION_CODES.N);
+    }
+
+    /**
+     * Monitor a given connectivity manager
+     *
+     * @param connectivity   valid connectivity manager
+     * @param defaultNetwork true to track default network only, otherwise all
+     *                       networks with internet are tracked
+     * @since 0.12.0
+     */
+    @VisibleForTesting
+    public ConnectivityMonitor(@NonNull ConnectivityManager connectivity, boolean defaultNetwork) {
+        this.connectivity = connectivity;
+        this.defaultNetwork = defaultNetwork;
+    }
+
+    /**
+     * Hold monitor started, registering network callback on first reference
+     *
+     * @return true if callback is registered
+     * @since 0.12.0
+     */
+    @RequiresPermission(ACCESS_NETWORK_STATE)
+    public boolean acquire() {
+        synchronized (references) {
+            referenceCount++;
+            return referenceCount == 1 ? start() : isStarted();
+        }
+    }
+
+    /**
+     * Drop a reference taken by {@link #acquire()}, unregistering network
+     * callback on last reference
+     *
+     * @since 0.12.0
+     */
+    public void release() {
+        synchronized (references) {
+            if (referenceCount == 0) {
+                return;
+            }
+            referenceCount--;
+            if (referenceCount == 0) {
+                stop();
+            }
+        }
+    }
+
+    /**
+     * Obtain number of references taken by {@link #acquire()}
+     *
+     * @return number of references
+     * @since 0.12.0
+     */
+    public int getReferenceCount() {
+        synchronized (references) {
+            return referenceCount;
+        }
+    }
+
+    /**
+     * Register network callback, once, on first reference
+     *
+     * @return true if callback is registered
+     */
+    @RequiresPermission(ACCESS_NETWORK_STATE)
+    private boolean start() {
+        if (!started.compareAndSet(false, true)) {
+            return true;
+        }
+        synchronized (networks) {
+            networks.clear();
+        }
+        try {
+            if (defaultNetwork && Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
+                connectivity.registerDefaultNetworkCallback(callback);
+            } else {
+                NetworkRequest request = new NetworkRequest.Builder()
+                        .addCapability(NetworkCapabilities.NET_CAPABILITY_INTERNET)
+                        .build();
+                connectivity.registerNetworkCallback(request, callback);
+            }
+            return true;
+        } catch (Exception e) {
+            // i.e missing permission, keep querying directly
+            started.set(false);
+            return false;
+        }
+    }
+
+    /**
+     * Unregister network callback and drop published state, on last reference
+     */
+    private void stop() {
+        if (!started.compareAndSet(true, false)) {
+            return;
+        }
+        try {
+            connectivity.unregisterNetworkCallback(callback);
+        } catch (Exception ignore) {
+            // callback was not registered
+        }
+        synchronized (networks) {
+            networks.clear();
+            snapshot = null;
+        }
+    }
+
+    /**
+     * Check if network callback is registered
+     *
+     * @return true if started
+     * @since 0.12.0
+     */
+    public boolean isStarted() {
+        return started.get();
+    }
+
+    /**
+     * Check if there is internet or data connection on the device
+     *
+     * @return true if connected
+     * @since 0.12.0
+     */
+    public boolean isConnected() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current.isConnected();
+        }
+        return query();
+    }
+
+    /**
+     * Obtain latest state reported by network callback
+     *
+     * @return latest state or null if not yet reported
+     * @since 0.12.0
+     */
+    @Nullable
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Listen for connectivity changes, called on connectivity thread
+     *
+     * @param listener valid listener
+     * @since 0.12.0
+     */
+    public void addListener(@NonNull Listener listener) {
+        listeners.addIfAbsent(listener);
+    }
+
+    /**
+     * Stop listening for connectivity changes
+     *
+     * @param listener valid listener
+     * @since 0.12.0
+     */
+    public void removeListener(@NonNull Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Obtain registered network callback
+     *
+     * @return network callback
+     * @since 0.12.0
+     */
+    @VisibleForTesting
+    @NonNull
+    public NetworkCallback callback() {
+        return callback;
+    }
+
+    /**
+     * Publish a given state, notifying listeners if it changed
+     *
+     * @param next valid state
+     * @since 0.12.0
+     */
+    @VisibleForTesting
+    public void publish(@NonNull Snapshot next) {
+        Snapshot changed;
+        synchronized (networks) {
+            changed = swap(next);
+        }
+        notifyListeners(changed);
+    }
+
+    /**
+     * Replace published state, called while holding networks
+     *
+     * @param next valid state
+     * @return next state if it changed, otherwise null
+     */
+    @Nullable
+    private Snapshot swap(@NonNull Snapshot next) {
+        Snapshot previous = snapshot;
+        snapshot = next;
+        return previous == null || !previous.equals(next) ? next : null;
+    }
+
+    /**
+     * Notify listeners of a changed state, never while holding a lock, since
+     * listeners call back into this monitor and run their own work
+     *
+     * @param changed changed state or null
+     */
+    private void notifyListeners(@Nullable Snapshot changed) {
+        if (changed == null) {
+            return;
+        }
+        for (Listener listener : listeners) {
+            listener.onConnectivityChanged(changed);
+        }
+    }
+
+    private NetworkClass classOf(Network network) {
+        if (network == null) {
+            return NetworkClass.UNKNOWN;
+        }
+        try {
+            return NetworkClass.of(connectivity.getNetworkCapabilities(network));
+        } catch (Exception e) {
+            return NetworkClass.UNKNOWN;
+        }
+    }
+
+    private boolean query() {
+        try {
+            NetworkInfo networkInfo = connectivity.getActiveNetworkInfo();
+            return networkInfo != null && networkInfo.isConnectedOrConnecting();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Listener of connectivity changes
+     *
+     * @since 0.12.0
+     */
+    public interface Listener {
+        /**
+         * Called when connectivity state changes
+         *
+         * @param snapshot latest state
+         */
+        void onConnectivityChanged(@NonNull Snapshot snapshot);
+    }
+
+    /**
+     * Immutable connectivity state at a point in time
+     *
+     * @since 0.12.0
+     */
+    public static final class Snapshot {
+        private final boolean connected;
+        private final Network network;
+        private final NetworkClass networkClass;
+        private final long elapsedRealtime;
+
+        public Snapshot(boolean connected, @Nullable Network network) {
+            this(connected, network, NetworkClass.UNKNOWN);
+        }
+
+        public Snapshot(boolean connected, @Nullable Network network,
+                        @NonNull NetworkClass networkClass) {
+            this.connected = connected;
+            this.network = network;
+            this.networkClass = networkClass;
+            this.elapsedRealtime = SystemClock.elapsedRealtime();
+        }
+
+        public boolean isConnected() {
+            return connected;
+        }
+
+        @Nullable
+        public Network getNetwork() {
+            return network;
+        }
+
+        /**
+         * Obtain class of network, i.e bandwidth tier, metered and validated
+         *
+         * @return class of network
+         * @since 0.12.0
+         */
+        @NonNull
+        public NetworkClass getNetworkClass() {
+            return networkClass;
+        }
+
+        /**
+         * Obtain time state was reported
+         *
+         * @return milliseconds since boot
+         */
+        public long getElapsedRealtime() {
+            return elapsedRealtime;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            Snapshot that = (Snapshot) o;
+
+            return connected == that.connected && networkClass.equals(that.networkClass);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = connected ? 1 : 0;
+            result = 31 * result + networkClass.hashCode();
+            return result;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return "Snapshot{connected=" + connected + ", network=" + network
+                    + ", networkClass=" + networkClass + "}";
+        }
+    }
+}
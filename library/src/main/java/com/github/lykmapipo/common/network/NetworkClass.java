@@ -0,0 +1,169 @@
+package com.github.lykmapipo.common.network;
+
+import android.net.NetworkCapabilities;
+import android.os.Build;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Coarse class of a network, i.e bandwidth tier, metered and validated,
+ * derived from {@link NetworkCapabilities}.
+ * <p>
+ * Only tier, metered and validated take part in equality, so bandwidth
+ * estimate fluctuations within a tier are not reported as changes.
+ *
+ * @author lally elias <lallyelias87@gmail.com>
+ * @since 0.12.0
+ */
+public final class NetworkClass {
+    /**
+     * Bandwidth not known
+     */
+    public static final int TIER_UNKNOWN = 0;
+
+    /**
+     * Up to 150 kbps, i.e 2G
+     */
+    public static final int TIER_SLOW = 1;
+
+    /**
+     * Up to 2 mbps, i.e 3G
+     */
+    public static final int TIER_MODERATE = 2;
+
+    /**
+     * Above 2 mbps, i.e 4G or Wi-Fi
+     */
+    public static final int TIER_FAST = 3;
+
+    /**
+     * Class of an unknown network
+     */
+    public static final NetworkClass UNKNOWN = new NetworkClass(TIER_UNKNOWN, 0, true, false);
+
+    // constants
+    private static final int SLOW_KBPS = 150;
+    private static final int MODERATE_KBPS = 2000;
+    private static final int DEFAULT_CONCURRENCY = 3;
+
+    // refs
+    private final int tier;
+    private final int downstreamKbps;
+    private final boolean metered;
+    private final boolean validated;
+
+    public NetworkClass(int tier, int downstreamKbps, boolean metered, boolean validated) {
+        this.tier = tier;
+        this.downstreamKbps = downstreamKbps;
+        this.metered = metered;
+        this.validated = validated;
+    }
+
+    /**
+     * Obtain class of a network from its capabilities
+     *
+     * @param capabilities network capabilities
+     * @return class of network or {@link #UNKNOWN}
+     * @since 0.12.0
+     */
+    @NonNull
+    public static NetworkClass of(@Nullable NetworkCapabilities capabilities) {
+        if (capabilities == null) {
+            return UNKNOWN;
+        }
+        int kbps = capabilities.getLinkDownstreamBandwidthKbps();
+        boolean metered =
+                !capabilities.hasCapability(NetworkCapabilities.NET_CAPABILITY_NOT_METERED);
+        boolean validated = Build.VERSION.SDK_INT >= Build.VERSION_CODES.M
+                ? capabilities.hasCapability(NetworkCapabilities.NET_CAPABILITY_VALIDATED)
+                : capabilities.hasCapability(NetworkCapabilities.NET_CAPABILITY_INTERNET);
+        return new NetworkClass(tierOf(kbps), kbps, metered, validated);
+    }
+
+    /**
+     * Obtain bandwidth tier of a given downstream bandwidth
+     *
+     * @param kbps downstream bandwidth, in kbps
+     * @return bandwidth tier
+     * @since 0.12.0
+     */
+    public static int tierOf(int kbps) {
+        if (kbps <= 0) {
+            return TIER_UNKNOWN;
+        }
+        if (kbps <= SLOW_KBPS) {
+            return TIER_SLOW;
+        }
+        if (kbps <= MODERATE_KBPS) {
+            return TIER_MODERATE;
+        }
+        return TIER_FAST;
+    }
+
+    public int getTier() {
+        return tier;
+    }
+
+    /**
+     * Obtain estimated downstream bandwidth
+     *
+     * @return downstream bandwidth, in kbps
+     */
+    public int getDownstreamKbps() {
+        return downstreamKbps;
+    }
+
+    public boolean isMetered() {
+        return metered;
+    }
+
+    public boolean isValidated() {
+        return validated;
+    }
+
+    /**
+     * Obtain suggested number of parallel network operations
+     *
+     * @return suggested concurrency
+     * @since 0.12.0
+     */
+    public int getConcurrency() {
+        switch (tier) {
+            case TIER_SLOW:
+                // avoid head of line timeouts
+                return 1;
+            case TIER_MODERATE:
+                return 2;
+            case TIER_FAST:
+                return metered ? 4 : 6;
+            default:
+                return DEFAULT_CONCURRENCY;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        NetworkClass that = (NetworkClass) o;
+
+        return tier == that.tier && metered == that.metered && validated == that.validated;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = tier;
+        result = 31 * result + (metered ? 1 : 0);
+        result = 31 * result + (validated ? 1 : 0);
+        return result;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "NetworkClass{tier=" + tier + ", downstreamKbps=" + downstreamKbps
+                + ", metered=" + metered + ", validated=" + validated + "}";
+    }
+}
@@ -0,0 +1,234 @@
+package com.github.lykmapipo.common.network;
+
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link ThreadPoolExecutor} for network operations whose concurrency
+ * follows {@link NetworkClass} of current network.
+ * <p>
+ * More parallel operations run on fast links and fewer on slow ones, to
+ * avoid head of line timeouts. Every resize is recorded in a fixed size ring
+ * buffer, see {@link #metrics()}.
+ * <p>
+ * Once {@link #attach(ConnectivityMonitor)}ed, monitor is acquired until
+ * executor terminates, so every burst of work start from a current class.
+ *
+ * @author lally elias <lallyelias87@gmail.com>
+ * @since 0.12.0
+ */
+public final class NetworkExecutor extends ThreadPoolExecutor
+        implements ConnectivityMonitor.Listener {
+    /**
+     * Number of resizes kept by {@link #metrics()}
+     */
+    public static final int METRICS_CAPACITY = 64;
+
+    // constants
+    private static final int MAX_CONCURRENCY = 16;
+    private static final long KEEP_ALIVE_TIME = 30L;
+
+    // refs
+    private final long[] times = new long[METRICS_CAPACITY];
+    private final int[] concurrencies = new int[METRICS_CAPACITY];
+    private final int[] tiers = new int[METRICS_CAPACITY];
+    private int head;
+    private int count;
+    private long total;
+    private final Object attachment = new Object();
+    private volatile ConnectivityMonitor monitor;
+
+    public NetworkExecutor(int concurrency) {
+        super(concurrency, concurrency, KEEP_ALIVE_TIME, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>());
+        allowCoreThreadTimeOut(true);
+        record(concurrency, NetworkClass.TIER_UNKNOWN);
+    }
+
+    /**
+     * Follow connectivity changes of a given monitor, once, holding a
+     * reference on it until executor terminates
+     *
+     * @param monitor valid connectivity monitor
+     * @return true if attached by this call
+     * @since 0.12.0
+     */
+    public boolean attach(@NonNull ConnectivityMonitor monitor) {
+        synchronized (attachment) {
+            // checked under lock, so terminated never miss an attached monitor
+            if (isShutdown() || this.monitor != null) {
+                return false;
+            }
+            this.monitor = monitor;
+            monitor.addListener(this);
+            monitor.acquire();
+        }
+        ConnectivityMonitor.Snapshot snapshot = monitor.snapshot();
+        if (snapshot != null) {
+            onConnectivityChanged(snapshot);
+        }
+        return true;
+    }
+
+    /**
+     * Obtain followed monitor
+     *
+     * @return monitor or null if not attached
+     * @since 0.12.0
+     */
+    @Nullable
+    public ConnectivityMonitor getMonitor() {
+        return monitor;
+    }
+
+    @Override
+    public void onConnectivityChanged(@NonNull ConnectivityMonitor.Snapshot snapshot) {
+        NetworkClass networkClass = snapshot.getNetworkClass();
+        resize(networkClass.getConcurrency(), networkClass.getTier());
+    }
+
+    @Override
+    protected void terminated() {
+        super.terminated();
+        detach();
+    }
+
+    private void detach() {
+        synchronized (attachment) {
+            ConnectivityMonitor current = monitor;
+            if (current != null) {
+                monitor = null;
+                current.removeListener(this);
+                current.release();
+            }
+        }
+    }
+
+    /**
+     * Obtain current concurrency
+     *
+     * @return maximum number of parallel operations
+     * @since 0.12.0
+     */
+    public int getConcurrency() {
+        return getMaximumPoolSize();
+    }
+
+    /**
+     * Change maximum number of parallel operations
+     *
+     * @param concurrency valid concurrency
+     * @since 0.12.0
+     */
+    public void resize(int concurrency) {
+        resize(concurrency, NetworkClass.TIER_UNKNOWN);
+    }
+
+    private synchronized void resize(int concurrency, int tier) {
+        int next = Math.max(1, Math.min(concurrency, MAX_CONCURRENCY));
+        int current = getMaximumPoolSize();
+        if (next == current) {
+            return;
+        }
+        // core may never exceed maximum, so order of updates matters
+        if (next > current) {
+            setMaximumPoolSize(next);
+            setCorePoolSize(next);
+        } else {
+            setCorePoolSize(next);
+            setMaximumPoolSize(next);
+        }
+        record(next, tier);
+    }
+
+    /**
+     * Obtain recent concurrency changes, oldest first
+     *
+     * @return concurrency metrics
+     * @since 0.12.0
+     */
+    @NonNull
+    public synchronized Metrics metrics() {
+        long[] sampleTimes = new long[count];
+        int[] sampleConcurrencies = new int[count];
+        int[] sampleTiers = new int[count];
+        int start = (head - count + METRICS_CAPACITY) % METRICS_CAPACITY;
+        for (int i = 0; i < count; i++) {
+            int index = (start + i) % METRICS_CAPACITY;
+            sampleTimes[i] = times[index];
+            sampleConcurrencies[i] = concurrencies[index];
+            sampleTiers[i] = tiers[index];
+        }
+        return new Metrics(sampleTimes, sampleConcurrencies, sampleTiers, total);
+    }
+
+    private synchronized void record(int concurrency, int tier) {
+        times[head] = SystemClock.elapsedRealtime();
+        concurrencies[head] = concurrency;
+        tiers[head] = tier;
+        head = (head + 1) % METRICS_CAPACITY;
+        count = Math.min(count + 1, METRICS_CAPACITY);
+        total++;
+    }
+
+    /**
+     * Recent concurrency changes of a {@link NetworkExecutor}
+     *
+     * @since 0.12.0
+     */
+    public static final class Metrics {
+        private final long[] times;
+        private final int[] concurrencies;
+        private final int[] tiers;
+        private final long total;
+
+        Metrics(long[] times, int[] concurrencies, int[] tiers, long total) {
+            this.times = times;
+            this.concurrencies = concurrencies;
+            this.tiers = tiers;
+            this.total = total;
+        }
+
+        /**
+         * Obtain number of kept changes
+         *
+         * @return number of changes
+         */
+        public int size() {
+            return times.length;
+        }
+
+        /**
+         * Obtain number of changes since creation, including dropped ones
+         *
+         * @return number of changes
+         */
+        public long getTotal() {
+            return total;
+        }
+
+        /**
+         * Obtain time of a change
+         *
+         * @param index index of change
+         * @return milliseconds since boot
+         */
+        public long getTimeAt(int index) {
+            return times[index];
+        }
+
+        public int getConcurrencyAt(int index) {
+            return concurrencies[index];
+        }
+
+        public int getTierAt(int index) {
+            return tiers[index];
+        }
+    }
+}
@@ -0,0 +1,552 @@
+package com.github.lykmapipo.common.network;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.github.lykmapipo.common.Common;
+import com.github.lykmapipo.common.util.LongSet;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Durable queue of operations to be sent once device is back online.
+ * <p>
+ * Operations are appended to a json lines file, one record per line, and
+ * delivered operations are appended as ack records, so queue survives
+ * process death. Acked records are dropped when file is compacted, on
+ * start and once acks outnumber pending operations.
+ * <p>
+ * Pending operations are sent in batches on a given {@link Executor}, with
+ * bounded number of batches in flight, whenever {@link ConnectivityMonitor}
+ * report connectivity. Batches which fail while connected are sent again
+ * after an exponential backoff with jitter, when a scheduler is given.
+ * Delivery is at least once.
+ * <p>
+ * File writes are serialized on their own lock, so enqueue and size do not
+ * wait on compaction.
+ * <pre>
+ * OfflineQueue queue = Common.Network.offlineQueue(file, transport);
+ * queue.start();
+ * queue.enqueue("comment", comment);
+ * </pre>
+ *
+ * @author lally elias <lallyelias87@gmail.com>
+ * @since 0.12.0
+ */
+public final class OfflineQueue implements ConnectivityMonitor.Listener {
+    /**
+     * Default number of operations sent at once
+     */
+    public static final int DEFAULT_BATCH_SIZE = 20;
+
+    /**
+     * Default number of batches in flight
+     */
+    public static final int DEFAULT_CONCURRENCY = 2;
+
+    // constants
+    private static final int COMPACT_THRESHOLD = 128;
+    private static final long RETRY_BASE_DELAY = 1000L;
+    private static final long RETRY_MAX_DELAY = 300000L;
+    private static final String ID = "id";
+    private static final String TYPE = "type";
+    private static final String PAYLOAD = "payload";
+    private static final String ACK = "ack";
+
+    // refs
+    private final File file;
+    private final ConnectivityMonitor monitor;
+    private final Executor executor;
+    private final ScheduledExecutorService scheduler;
+    private final Transport transport;
+    private final int batchSize;
+    private final int concurrency;
+    private final Random random = new Random();
+    private final LinkedHashMap<Long, Item> pending = new LinkedHashMap<Long, Item>();
+    private final LongSet inFlight = new LongSet();
+    private boolean started;
+    private long nextId = 1;
+    private int running;
+    private int failures;
+    private boolean retryScheduled;
+
+    // file state, guarded by fileLock which is always taken before this
+    private final Object fileLock = new Object();
+    private Writer writer;
+    private int acked;
+
+    public OfflineQueue(@NonNull File file, @NonNull ConnectivityMonitor monitor,
+                        @NonNull Executor executor, @NonNull Transport transport) {
+        this(file, monitor, executor, null, transport);
+    }
+
+    public OfflineQueue(@NonNull File file, @NonNull ConnectivityMonitor monitor,
+                        @NonNull Executor executor, @NonNull Transport transport,
+                        int batchSize, int concurrency) {
+        this(file, monitor, executor, null, transport, batchSize, concurrency);
+    }
+
+    /**
+     * @param scheduler optional scheduler of retries, after failed batches
+     * @since 0.12.0
+     */
+    public OfflineQueue(@NonNull File file, @NonNull ConnectivityMonitor monitor,
+                        @NonNull Executor executor, @Nullable ScheduledExecutorService scheduler,
+                        @NonNull Transport transport) {
+        this(file, monitor, executor, scheduler, transport,
+                DEFAULT_BATCH_SIZE, DEFAULT_CONCURRENCY);
+    }
+
+    /**
+     * @param scheduler optional scheduler of retries, after failed batches
+     * @since 0.12.0
+     */
+    public OfflineQueue(@NonNull File file, @NonNull ConnectivityMonitor monitor,
+                        @NonNull Executor executor, @Nullable ScheduledExecutorService scheduler,
+                        @NonNull Transport transport, int batchSize, int concurrency) {
+        this.file = file;
+        this.monitor = monitor;
+        this.executor = executor;
+        this.scheduler = scheduler;
+        this.transport = transport;
+        this.batchSize = Math.max(1, batchSize);
+        this.concurrency = Math.max(1, concurrency);
+    }
+
+    /**
+     * Load pending operations and start sending them whenever connected
+     *
+     * @throws IOException if queue file can not be read or written
+     * @since 0.12.0
+     */
+    public void start() throws IOException {
+        synchronized (fileLock) {
+            synchronized (this) {
+                if (started) {
+                    return;
+                }
+            }
+            load();
+            // drop acked and torn records left by previous process
+            compact();
+            synchronized (this) {
+                started = true;
+                failures = 0;
+            }
+        }
+        monitor.addListener(this);
+        monitor.acquire();
+        drain();
+    }
+
+    /**
+     * Stop sending operations and close queue file
+     *
+     * @since 0.12.0
+     */
+    public void stop() {
+        synchronized (fileLock) {
+            synchronized (this) {
+                if (!started) {
+                    return;
+                }
+                started = false;
+            }
+            closeWriter();
+        }
+        monitor.removeListener(this);
+        monitor.release();
+    }
+
+    /**
+     * Append an operation, sent right away if connected
+     *
+     * @param type    type of operation, used by transport
+     * @param payload operation payload, serialized by {@link Common.Value#toJson(Object)}
+     * @return id of queued operation
+     * @throws IOException if queue is not started or operation can not be written
+     * @since 0.12.0
+     */
+    public long enqueue(@NonNull String type, @NonNull Object payload) throws IOException {
+        String json = Common.Value.toJson(payload);
+        if (json == null) {
+            throw new IOException("Unable to serialize payload of " + type);
+        }
+        long id;
+        synchronized (fileLock) {
+            synchronized (this) {
+                if (!started) {
+                    throw new IOException("Offline queue is not started");
+                }
+                id = nextId++;
+            }
+            // written before it is pending, so compaction never miss it
+            Item item = new Item(id, type, json);
+            append(item);
+            synchronized (this) {
+                pending.put(id, item);
+            }
+        }
+        drain();
+        return id;
+    }
+
+    /**
+     * Obtain number of operations not yet delivered
+     *
+     * @return number of pending operations
+     * @since 0.12.0
+     */
+    public synchronized int size() {
+        return pending.size();
+    }
+
+    /**
+     * Send pending operations in batches, if connected
+     *
+     * @since 0.12.0
+     */
+    public void drain() {
+        List<List<Item>> batches = new ArrayList<List<Item>>();
+        synchronized (this) {
+            if (!started || !monitor.isConnected()) {
+                return;
+            }
+            while (running < concurrency) {
+                List<Item> batch = nextBatch();
+                if (batch.isEmpty()) {
+                    break;
+                }
+                running++;
+                batches.add(batch);
+            }
+        }
+        for (final List<Item> batch : batches) {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    send(batch);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void onConnectivityChanged(@NonNull ConnectivityMonitor.Snapshot snapshot) {
+        if (snapshot.isConnected()) {
+            drain();
+        }
+    }
+
+    private List<Item> nextBatch() {
+        List<Item> batch = new ArrayList<Item>(Math.min(batchSize, pending.size()));
+        for (Item item : pending.values()) {
+            if (batch.size() >= batchSize) {
+                break;
+            }
+            if (inFlight.add(item.id)) {
+                batch.add(item);
+            }
+        }
+        return batch;
+    }
+
+    private void send(List<Item> batch) {
+        boolean delivered;
+        try {
+            delivered = transport.send(batch);
+        } catch (Exception e) {
+            // i.e offline, retried later or on reconnect
+            delivered = false;
+        }
+        synchronized (this) {
+            running--;
+            for (Item item : batch) {
+                inFlight.remove(item.id);
+                if (delivered) {
+                    pending.remove(item.id);
+                }
+            }
+            failures = delivered ? 0 : failures + 1;
+        }
+        if (delivered) {
+            ack(batch);
+            drain();
+        } else {
+            retryLater();
+        }
+    }
+
+    private void retryLater() {
+        if (scheduler == null) {
+            return;
+        }
+        long delay;
+        synchronized (this) {
+            // offline batches are sent again on reconnect
+            if (!started || retryScheduled || !monitor.isConnected()) {
+                return;
+            }
+            retryScheduled = true;
+            delay = delayOf(failures);
+        }
+        try {
+            scheduler.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    synchronized (OfflineQueue.this) {
+                        retryScheduled = false;
+                    }
+                    drain();
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            synchronized (this) {
+                retryScheduled = false;
+            }
+        }
+    }
+
+    private long delayOf(int attempt) {
+        int shift = Math.min(Math.max(0, attempt - 1), 16);
+        long backoff = Math.min(RETRY_MAX_DELAY, RETRY_BASE_DELAY << shift);
+        // full jitter, so queues of many clients do not retry at once
+        return (long) (random.nextDouble() * backoff);
+    }
+
+    private void ack(List<Item> batch) {
+        synchronized (fileLock) {
+            int size;
+            synchronized (this) {
+                if (!started) {
+                    // not persisted, sent again on next start
+                    return;
+                }
+                size = pending.size();
+            }
+            try {
+                StringWriter line = new StringWriter();
+                JsonWriter json = new JsonWriter(line);
+                json.beginObject().name(ACK).beginArray();
+                for (Item item : batch) {
+                    json.value(item.id);
+                }
+                json.endArray().endObject().close();
+                writeLine(line.toString());
+                acked += batch.size();
+                if (acked >= COMPACT_THRESHOLD && acked > size) {
+                    compact();
+                }
+            } catch (IOException e) {
+                // ack lost, operations are sent again on next start
+            }
+        }
+    }
+
+    private void append(Item item) throws IOException {
+        StringWriter line = new StringWriter();
+        JsonWriter json = new JsonWriter(line);
+        json.beginObject()
+                .name(ID).value(item.id)
+                .name(TYPE).value(item.type)
+                .name(PAYLOAD).value(item.payload)
+                .endObject()
+                .close();
+        writeLine(line.toString());
+    }
+
+    private void writeLine(String line) throws IOException {
+        if (writer == null) {
+            writer = new BufferedWriter(
+                    new OutputStreamWriter(new FileOutputStream(file, true), UTF_8));
+        }
+        writer.write(line);
+        writer.write('\n');
+        writer.flush();
+    }
+
+    private void closeWriter() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException ignore) {
+                // nothing to flush
+            }
+            writer = null;
+        }
+    }
+
+    private void load() throws IOException {
+        LinkedHashMap<Long, Item> loaded = new LinkedHashMap<Long, Item>();
+        long next = 1;
+        if (file.exists()) {
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(new FileInputStream(file), UTF_8));
+            try {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    try {
+                        next = Math.max(next, read(line, loaded));
+                    } catch (Exception e) {
+                        // torn write, skip record
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+        synchronized (this) {
+            pending.clear();
+            pending.putAll(loaded);
+            nextId = Math.max(nextId, next);
+        }
+    }
+
+    private long read(String line, LinkedHashMap<Long, Item> loaded) throws IOException {
+        JsonReader json = new JsonReader(new StringReader(line));
+        long id = 0;
+        String type = null;
+        String payload = null;
+        json.beginObject();
+        while (json.hasNext()) {
+            String name = json.nextName();
+            if (ACK.equals(name)) {
+                json.beginArray();
+                while (json.hasNext()) {
+                    loaded.remove(json.nextLong());
+                }
+                json.endArray();
+            } else if (ID.equals(name)) {
+                id = json.nextLong();
+            } else if (TYPE.equals(name) && json.peek() != JsonToken.NULL) {
+                type = json.nextString();
+            } else if (PAYLOAD.equals(name) && json.peek() != JsonToken.NULL) {
+                payload = json.nextString();
+            } else {
+                json.skipValue();
+            }
+        }
+        json.endObject();
+        if (id > 0 && type != null && payload != null) {
+            loaded.put(id, new Item(id, type, payload));
+            return id + 1;
+        }
+        return 1;
+    }
+
+    private void compact() throws IOException {
+        List<Item> items;
+        synchronized (this) {
+            items = new ArrayList<Item>(pending.values());
+        }
+        closeWriter();
+        File temp = new File(file.getPath() + ".tmp");
+        writer = new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(temp, false), UTF_8));
+        try {
+            for (Item item : items) {
+                append(item);
+            }
+        } finally {
+            closeWriter();
+        }
+        if (!temp.renameTo(file)) {
+            if (!file.delete() || !temp.renameTo(file)) {
+                throw new IOException("Unable to compact " + file);
+            }
+        }
+        acked = 0;
+    }
+
+    /**
+     * Deliver a batch of queued operations
+     *
+     * @since 0.12.0
+     */
+    public interface Transport {
+        /**
+         * Send a given batch, called on queue executor
+         *
+         * @param batch operations to send, oldest first
+         * @return true if delivered, false to keep operations queued
+         * @throws Exception i.e when offline, operations are kept queued
+         */
+        boolean send(@NonNull List<Item> batch) throws Exception;
+    }
+
+    /**
+     * Queued operation
+     *
+     * @since 0.12.0
+     */
+    public static final class Item {
+        private final long id;
+        private final String type;
+        private final String payload;
+
+        Item(long id, @NonNull String type, @NonNull String payload) {
+            this.id = id;
+            this.type = type;
+            this.payload = payload;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        @NonNull
+        public String getType() {
+            return type;
+        }
+
+        /**
+         * Obtain payload as json
+         *
+         * @return payload json
+         */
+        @NonNull
+        public String getPayload() {
+            return payload;
+        }
+
+        /**
+         * Obtain payload as a given type
+         *
+         * @param type valid type of payload
+         * @return payload or null if not of type
+         */
+        @Nullable
+        public <T> T getPayload(@NonNull Class<T> type) {
+            return Common.Value.fromJson(payload, type);
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return "Item{id=" + id + ", type=" + type + "}";
+        }
+    }
+}
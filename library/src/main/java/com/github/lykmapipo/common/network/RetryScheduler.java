@@ -0,0 +1,383 @@
+package com.github.lykmapipo.common.network;
+
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.github.lykmapipo.common.Common;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Retry tasks which fail with a network exception, as classified by
+ * {@link Common.Network#isNetworkException(Throwable)}.
+ * <p>
+ * Retries are delayed by exponential backoff with full jitter, and limited
+ * by a per key budget which refills over time, so clients do not stampede a
+ * backend recovering from an outage. Keys idle for a whole budget window are
+ * evicted, since their budget is full again. Retries due while offline are parked
+ * until {@link ConnectivityMonitor} report connectivity, instead of spinning.
+ * <pre>
+ * RetryScheduler retries = Common.Network.retryScheduler();
+ * retries.submit("sync", task, callback);
+ * </pre>
+ *
+ * @author lally elias <lallyelias87@gmail.com>
+ * @since 0.12.0
+ */
+public final class RetryScheduler implements ConnectivityMonitor.Listener {
+    // constants
+    private static final int SWEEP_THRESHOLD = 64;
+
+    // refs
+    private final ScheduledExecutorService scheduler;
+    private final Executor executor;
+    private final ConnectivityMonitor monitor;
+    private final Policy policy;
+    private final Random random;
+    private final Map<String, Budget> budgets = new HashMap<String, Budget>();
+    private final List<Attempt> parked = new ArrayList<Attempt>();
+    private final Object following = new Object();
+    private boolean followed;
+    private int sweepAt = SWEEP_THRESHOLD;
+
+    public RetryScheduler(@NonNull ScheduledExecutorService scheduler, @NonNull Executor executor,
+                          @NonNull ConnectivityMonitor monitor, @NonNull Policy policy) {
+        this(scheduler, executor, monitor, policy, new Random());
+    }
+
+    public RetryScheduler(@NonNull ScheduledExecutorService scheduler, @NonNull Executor executor,
+                          @NonNull ConnectivityMonitor monitor, @NonNull Policy policy,
+                          @NonNull Random random) {
+        this.scheduler = scheduler;
+        this.executor = executor;
+        this.monitor = monitor;
+        this.policy = policy;
+        this.random = random;
+    }
+
+    /**
+     * Run a given task, retrying it on network exceptions
+     *
+     * @param key      retry budget key, i.e endpoint
+     * @param task     valid task
+     * @param callback optional callback of final outcome
+     * @since 0.12.0
+     */
+    public void submit(@NonNull String key, @NonNull Task task, @Nullable Callback callback) {
+        execute(new Attempt(key, task, callback));
+    }
+
+    /**
+     * Obtain number of retries waiting for connectivity
+     *
+     * @return number of parked retries
+     * @since 0.12.0
+     */
+    public int parkedCount() {
+        synchronized (parked) {
+            return parked.size();
+        }
+    }
+
+    /**
+     * Obtain number of keys with a partially spent budget
+     *
+     * @return number of tracked budgets
+     * @since 0.12.0
+     */
+    public int budgetCount() {
+        synchronized (budgets) {
+            return budgets.size();
+        }
+    }
+
+    /**
+     * Obtain delay of a retry, chosen uniformly up to exponential backoff
+     *
+     * @param attempt number of failed attempts, from 1
+     * @return delay in milliseconds
+     * @since 0.12.0
+     */
+    public long delayOf(int attempt) {
+        long backoff = policy.backoffOf(attempt);
+        synchronized (random) {
+            return (long) (random.nextDouble() * backoff);
+        }
+    }
+
+    @Override
+    public void onConnectivityChanged(@NonNull ConnectivityMonitor.Snapshot snapshot) {
+        if (!snapshot.isConnected()) {
+            return;
+        }
+        List<Attempt> resumed;
+        synchronized (parked) {
+            if (parked.isEmpty()) {
+                return;
+            }
+            resumed = new ArrayList<Attempt>(parked);
+            parked.clear();
+        }
+        // no longer need connectivity updates
+        follow();
+        // jitter again, so parked clients do not retry at once
+        for (Attempt attempt : resumed) {
+            schedule(attempt, delayOf(1));
+        }
+    }
+
+    private void execute(Attempt attempt) {
+        try {
+            executor.execute(attempt);
+        } catch (RejectedExecutionException e) {
+            attempt.fail(e);
+        }
+    }
+
+    private void schedule(final Attempt attempt, long delay) {
+        try {
+            scheduler.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    execute(attempt);
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            attempt.fail(e);
+        }
+    }
+
+    private void retry(Attempt attempt, Throwable t) {
+        boolean retryable = Common.Network.isNetworkException(t)
+                && attempt.failures < policy.maxAttempts
+                && acquire(attempt.key);
+        if (!retryable) {
+            attempt.fail(t);
+            return;
+        }
+        if (!monitor.isConnected()) {
+            park(attempt);
+            return;
+        }
+        schedule(attempt, delayOf(attempt.failures));
+    }
+
+    private void park(Attempt attempt) {
+        synchronized (parked) {
+            parked.add(attempt);
+        }
+        follow();
+        // connectivity may have returned while parking
+        if (monitor.isConnected()) {
+            onConnectivityChanged(new ConnectivityMonitor.Snapshot(true, null));
+        }
+    }
+
+    /**
+     * Follow connectivity only while retries are parked.
+     * <p>
+     * Monitor is never called while holding parked, since acquire and
+     * release take monitor locks. Settled on live parked state, so racing
+     * park and resume always pair acquire and release.
+     */
+    private void follow() {
+        synchronized (following) {
+            boolean needed;
+            synchronized (parked) {
+                needed = !parked.isEmpty();
+            }
+            if (needed == followed) {
+                return;
+            }
+            followed = needed;
+            if (needed) {
+                monitor.addListener(this);
+                monitor.acquire();
+            } else {
+                monitor.removeListener(this);
+                monitor.release();
+            }
+        }
+    }
+
+    private boolean acquire(String key) {
+        long now = SystemClock.elapsedRealtime();
+        synchronized (budgets) {
+            Budget budget = budgets.get(key);
+            if (budget == null) {
+                if (budgets.size() >= sweepAt) {
+                    sweep(now);
+                }
+                budget = new Budget(policy.budget, now);
+                budgets.put(key, budget);
+            }
+            return budget.acquire(policy, now);
+        }
+    }
+
+    private void sweep(long now) {
+        Iterator<Budget> iterator = budgets.values().iterator();
+        while (iterator.hasNext()) {
+            // refilled budget is same as a new one
+            if (now - iterator.next().updatedAt >= policy.budgetWindow) {
+                iterator.remove();
+            }
+        }
+        // amortize sweeps over growth of live keys
+        sweepAt = Math.max(SWEEP_THRESHOLD, budgets.size() * 2);
+    }
+
+    /**
+     * Retryable unit of work
+     *
+     * @since 0.12.0
+     */
+    public interface Task {
+        /**
+         * Run task, called on given executor, i.e {@link Common.AppExecutors#networkIO()}.
+         * Scheduled executor only times retry delays, it never run tasks.
+         *
+         * @throws Exception network exceptions are retried
+         */
+        void run() throws Exception;
+    }
+
+    /**
+     * Final outcome of a task
+     *
+     * @since 0.12.0
+     */
+    public interface Callback {
+        void onSuccess();
+
+        /**
+         * Called when task failed and is no longer retried
+         *
+         * @param t last failure
+         */
+        void onFailure(@NonNull Throwable t);
+    }
+
+    /**
+     * Backoff and budget of retries
+     *
+     * @since 0.12.0
+     */
+    public static final class Policy {
+        /**
+         * Start at 500ms, up to 1 minute, 5 attempts and 10 retries per minute per key
+         */
+        public static final Policy DEFAULT = new Policy(500L, 60000L, 5, 10, 60000L);
+
+        // refs
+        private final long baseDelay;
+        private final long maxDelay;
+        private final int maxAttempts;
+        private final int budget;
+        private final long budgetWindow;
+
+        /**
+         * @param baseDelay    backoff of first retry, in milliseconds
+         * @param maxDelay     maximum backoff, in milliseconds
+         * @param maxAttempts  maximum number of attempts, including first one
+         * @param budget       maximum number of retries per key within window
+         * @param budgetWindow time to refill budget of a key, in milliseconds
+         */
+        public Policy(long baseDelay, long maxDelay, int maxAttempts,
+                      int budget, long budgetWindow) {
+            this.baseDelay = Math.max(1L, baseDelay);
+            this.maxDelay = Math.max(this.baseDelay, maxDelay);
+            this.maxAttempts = Math.max(1, maxAttempts);
+            this.budget = Math.max(0, budget);
+            this.budgetWindow = Math.max(1L, budgetWindow);
+        }
+
+        /**
+         * Obtain exponential backoff of a retry, before jitter
+         *
+         * @param attempt number of failed attempts, from 1
+         * @return backoff in milliseconds
+         */
+        public long backoffOf(int attempt) {
+            int shift = Math.max(0, attempt - 1);
+            // avoid overflow
+            if (shift >= 62 || baseDelay > (maxDelay >> shift)) {
+                return maxDelay;
+            }
+            return baseDelay << shift;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public int getBudget() {
+            return budget;
+        }
+    }
+
+    private static final class Budget {
+        private double tokens;
+        private long updatedAt;
+
+        Budget(int tokens, long updatedAt) {
+            this.tokens = tokens;
+            this.updatedAt = updatedAt;
+        }
+
+        boolean acquire(Policy policy, long now) {
+            double refill = (now - updatedAt) * (double) policy.budget / policy.budgetWindow;
+            tokens = Math.min(policy.budget, tokens + Math.max(0d, refill));
+            updatedAt = now;
+            if (tokens < 1d) {
+                return false;
+            }
+            tokens -= 1d;
+            return true;
+        }
+    }
+
+    private final class Attempt implements Runnable {
+        private final String key;
+        private final Task task;
+        private final Callback callback;
+        private int failures;
+
+        Attempt(String key, Task task, Callback callback) {
+            this.key = key;
+            this.task = task;
+            this.callback = callback;
+        }
+
+        @Override
+        public void run() {
+            try {
+                task.run();
+            } catch (Throwable t) {
+                failures++;
+                retry(this, t);
+                return;
+            }
+            if (callback != null) {
+                callback.onSuccess();
+            }
+        }
+
+        void fail(Throwable t) {
+            if (callback != null) {
+                callback.onFailure(t);
+            }
+        }
+    }
+}
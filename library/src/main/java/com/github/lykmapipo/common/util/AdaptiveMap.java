@@ -0,0 +1,133 @@
+package com.github.lykmapipo.common.util;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.collection.ArrayMap;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link Map} which choose its backing structure by size.
+ * <p>
+ * Small maps are backed by a compact {@link ArrayMap}, whose inserts cost
+ * O(n). Once a map grows past {@link #THRESHOLD} entries it is promoted to a
+ * {@link HashMap}, so merging big maps never becomes quadratic. Small maps
+ * behave, and iterate, exactly as {@link ArrayMap}.
+ *
+ * @author lally elias <lallyelias87@gmail.com>
+ * @since 0.12.0
+ */
+public final class AdaptiveMap<K, V> extends AbstractMap<K, V> {
+    /**
+     * Maximum number of entries kept in array backed storage
+     */
+    public static final int THRESHOLD = AdaptiveSet.THRESHOLD;
+
+    // refs
+    private Map<K, V> delegate;
+    private boolean hashed;
+
+    public AdaptiveMap() {
+        this(0);
+    }
+
+    public AdaptiveMap(int expected) {
+        if (expected > THRESHOLD) {
+            delegate = new HashMap<K, V>(AdaptiveSet.hashCapacityOf(expected));
+            hashed = true;
+        } else {
+            delegate = new ArrayMap<K, V>(expected);
+        }
+    }
+
+    /**
+     * Check if map is promoted to hashed storage
+     *
+     * @return true if backed by {@link HashMap}
+     * @since 0.12.0
+     */
+    public boolean isHashed() {
+        return hashed;
+    }
+
+    @Nullable
+    @Override
+    public V put(@Nullable K key, @Nullable V value) {
+        V previous = delegate.put(key, value);
+        if (!hashed && delegate.size() > THRESHOLD) {
+            promote(0);
+        }
+        return previous;
+    }
+
+    @Override
+    public void putAll(@NonNull Map<? extends K, ? extends V> entries) {
+        // promote before inserting, array inserts would be quadratic
+        if (!hashed && delegate.size() + entries.size() > THRESHOLD) {
+            promote(entries.size());
+        }
+        delegate.putAll(entries);
+    }
+
+    @Nullable
+    @Override
+    public V get(@Nullable Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public boolean containsKey(@Nullable Object key) {
+        return delegate.containsKey(key);
+    }
+
+    @Nullable
+    @Override
+    public V remove(@Nullable Object key) {
+        return delegate.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @NonNull
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        // live view, remains valid across promotion
+        return new AbstractSet<Entry<K, V>>() {
+            @NonNull
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return delegate.entrySet().iterator();
+            }
+
+            @Override
+            public int size() {
+                return delegate.size();
+            }
+
+            @Override
+            public void clear() {
+                delegate.clear();
+            }
+        };
+    }
+
+    private void promote(int incoming) {
+        Map<K, V> map = new HashMap<K, V>(AdaptiveSet.hashCapacityOf(delegate.size() + incoming));
+        map.putAll(delegate);
+        delegate = map;
+        hashed = true;
+    }
+}
@@ -0,0 +1,117 @@
+package com.github.lykmapipo.common.util;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.collection.ArraySet;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * A {@link Set} which choose its backing structure by size.
+ * <p>
+ * Small sets are backed by a compact {@link ArraySet}, whose inserts cost
+ * O(n). Once a set grows past {@link #THRESHOLD} members it is promoted to a
+ * {@link HashSet}, so bulk inserts never become quadratic. Small sets behave,
+ * and iterate, exactly as {@link ArraySet}.
+ *
+ * @author lally elias <lallyelias87@gmail.com>
+ * @since 0.12.0
+ */
+public final class AdaptiveSet<E> extends AbstractSet<E> {
+    /**
+     * Maximum number of members kept in array backed storage
+     */
+    public static final int THRESHOLD = 128;
+
+    // refs
+    private Set<E> delegate;
+    private boolean hashed;
+
+    public AdaptiveSet() {
+        this(0);
+    }
+
+    public AdaptiveSet(int expected) {
+        if (expected > THRESHOLD) {
+            delegate = new HashSet<E>(hashCapacityOf(expected));
+            hashed = true;
+        } else {
+            delegate = new ArraySet<E>(expected);
+        }
+    }
+
+    /**
+     * Check if set is promoted to hashed storage
+     *
+     * @return true if backed by {@link HashSet}
+     * @since 0.12.0
+     */
+    public boolean isHashed() {
+        return hashed;
+    }
+
+    @Override
+    public boolean add(@Nullable E element) {
+        boolean added = delegate.add(element);
+        if (added && !hashed && delegate.size() > THRESHOLD) {
+            promote(0);
+        }
+        return added;
+    }
+
+    @Override
+    public boolean addAll(@NonNull Collection<? extends E> elements) {
+        // promote before inserting, array inserts would be quadratic
+        if (!hashed && delegate.size() + elements.size() > THRESHOLD) {
+            promote(elements.size());
+        }
+        return delegate.addAll(elements);
+    }
+
+    @Override
+    public boolean contains(@Nullable Object element) {
+        return delegate.contains(element);
+    }
+
+    @Override
+    public boolean remove(@Nullable Object element) {
+        return delegate.remove(element);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @NonNull
+    @Override
+    public Iterator<E> iterator() {
+        return delegate.iterator();
+    }
+
+    private void promote(int incoming) {
+        Set<E> set = new HashSet<E>(hashCapacityOf(delegate.size() + incoming));
+        set.addAll(delegate);
+        delegate = set;
+        hashed = true;
+    }
+
+    /**
+     * Compute {@link java.util.HashMap} capacity able to hold expected entries without rehash
+     *
+     * @param expected expected number of entries
+     * @return initial capacity
+     */
+    static int hashCapacityOf(int expected) {
+        return (int) Math.min(expected * 4L / 3L + 1, Integer.MAX_VALUE);
+    }
+}
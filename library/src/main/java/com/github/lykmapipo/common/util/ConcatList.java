@@ -0,0 +1,133 @@
+package com.github.lykmapipo.common.util;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A {@link List} which present several lists as one without copying them.
+ * <p>
+ * Creating a view costs O(number of parts) and lookups binary search part
+ * offsets. Parts are never modified: the first mutation copies members into
+ * a private {@link ArrayList}, which then back the list. Parts should not be
+ * structurally modified while the view is in use.
+ * <pre>
+ * List&lt;User&gt; users = new ConcatList&lt;User&gt;(firstPage, secondPage);
+ * </pre>
+ *
+ * @author lally elias <lallyelias87@gmail.com>
+ * @since 0.12.0
+ */
+public final class ConcatList<E> extends AbstractList<E> implements RandomAccess {
+    // refs
+    private final List<? extends E>[] parts;
+    private final int[] offsets;
+    private ArrayList<E> copy;
+
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    public ConcatList(@NonNull List<? extends E>... parts) {
+        this.parts = new List[parts.length];
+        this.offsets = new int[parts.length + 1];
+        int count = 0;
+        for (int i = 0; i < parts.length; i++) {
+            // treat null parts as empty, as Value.mapOf skip null maps
+            List<? extends E> part = parts[i];
+            this.parts[i] = part == null ? new ArrayList<E>(0) : part;
+            this.offsets[i] = count;
+            count += this.parts[i].size();
+        }
+        this.offsets[parts.length] = count;
+    }
+
+    /**
+     * Check if view has been copied after a mutation
+     *
+     * @return true if backed by a private copy
+     * @since 0.12.0
+     */
+    public boolean isCopied() {
+        return copy != null;
+    }
+
+    @Override
+    public E get(int index) {
+        if (copy != null) {
+            return copy.get(index);
+        }
+        if (index < 0 || index >= offsets[parts.length]) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        int part = partOf(index);
+        return parts[part].get(index - offsets[part]);
+    }
+
+    @Override
+    public int size() {
+        return copy != null ? copy.size() : offsets[parts.length];
+    }
+
+    @Override
+    public E set(int index, @Nullable E element) {
+        return mutable().set(index, element);
+    }
+
+    @Override
+    public void add(int index, @Nullable E element) {
+        mutable().add(index, element);
+        modCount++;
+    }
+
+    @Override
+    public E remove(int index) {
+        E removed = mutable().remove(index);
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        mutable().clear();
+        modCount++;
+    }
+
+    /**
+     * Find part holding given index
+     *
+     * @param index valid index
+     * @return last part whose offset is not after index
+     */
+    private int partOf(int index) {
+        int low = 0;
+        int high = parts.length - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (offsets[middle] <= index) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Copy parts on first mutation
+     *
+     * @return private mutable copy
+     */
+    private ArrayList<E> mutable() {
+        if (copy == null) {
+            ArrayList<E> list = new ArrayList<E>(offsets[parts.length]);
+            for (List<? extends E> part : parts) {
+                list.addAll(part);
+            }
+            copy = list;
+        }
+        return copy;
+    }
+}
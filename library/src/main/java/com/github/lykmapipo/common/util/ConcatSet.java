@@ -0,0 +1,182 @@
+package com.github.lykmapipo.common.util;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A {@link Set} which present the union of several sets without copying them.
+ * <p>
+ * Creating a view costs O(number of parts). Members found in more than one
+ * part are reported once, by the first part holding them. Parts are never
+ * modified: the first mutation copies members into a private
+ * {@link AdaptiveSet}, which then back the set. Parts should not be
+ * structurally modified while the view is in use.
+ *
+ * @author lally elias <lallyelias87@gmail.com>
+ * @since 0.12.0
+ */
+public final class ConcatSet<E> extends AbstractSet<E> {
+    // refs
+    private final Set<? extends E>[] parts;
+    private AdaptiveSet<E> copy;
+    private int size = -1;
+
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    public ConcatSet(@NonNull Set<? extends E>... parts) {
+        this.parts = new Set[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            // treat null parts as empty, as Value.mapOf skip null maps
+            this.parts[i] = parts[i] == null ? Collections.<E>emptySet() : parts[i];
+        }
+    }
+
+    /**
+     * Check if view has been copied after a mutation
+     *
+     * @return true if backed by a private copy
+     * @since 0.12.0
+     */
+    public boolean isCopied() {
+        return copy != null;
+    }
+
+    @Override
+    public boolean contains(@Nullable Object element) {
+        if (copy != null) {
+            return copy.contains(element);
+        }
+        for (Set<? extends E> part : parts) {
+            if (part.contains(element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        if (copy != null) {
+            return copy.size();
+        }
+        // count distinct members once, on demand
+        if (size < 0) {
+            int count = 0;
+            for (Iterator<E> iterator = new UnionIterator(); iterator.hasNext(); iterator.next()) {
+                count++;
+            }
+            size = count;
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return !iterator().hasNext();
+    }
+
+    @NonNull
+    @Override
+    public Iterator<E> iterator() {
+        return copy != null ? copy.iterator() : new UnionIterator();
+    }
+
+    @Override
+    public boolean add(@Nullable E element) {
+        return mutable().add(element);
+    }
+
+    @Override
+    public boolean remove(@Nullable Object element) {
+        return mutable().remove(element);
+    }
+
+    @Override
+    public void clear() {
+        mutable().clear();
+    }
+
+    /**
+     * Copy parts on first mutation
+     *
+     * @return private mutable copy
+     */
+    private AdaptiveSet<E> mutable() {
+        if (copy == null) {
+            AdaptiveSet<E> set = new AdaptiveSet<E>();
+            for (Set<? extends E> part : parts) {
+                set.addAll(part);
+            }
+            copy = set;
+        }
+        return copy;
+    }
+
+    /**
+     * Iterate parts in order, skipping members already reported by earlier parts
+     */
+    private final class UnionIterator implements Iterator<E> {
+        private int part = 0;
+        private Iterator<? extends E> current;
+        private E next;
+        private boolean ready;
+        private E last;
+        private boolean removable;
+
+        @Override
+        public boolean hasNext() {
+            while (!ready) {
+                if (current == null || !current.hasNext()) {
+                    if (part >= parts.length) {
+                        return false;
+                    }
+                    current = parts[part++].iterator();
+                    continue;
+                }
+                E candidate = current.next();
+                if (!isInEarlierPart(candidate)) {
+                    next = candidate;
+                    ready = true;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ready = false;
+            removable = true;
+            last = next;
+            return next;
+        }
+
+        @Override
+        public void remove() {
+            if (!removable) {
+                throw new IllegalStateException();
+            }
+            // parts stay intact, so iteration continues over them
+            mutable().remove(last);
+            removable = false;
+        }
+
+        private boolean isInEarlierPart(E candidate) {
+            // current part index is part - 1
+            for (int i = 0; i < part - 1; i++) {
+                if (parts[i].contains(candidate)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.github.lykmapipo.common.util;
+
+/**
+ * Hashing helpers shared by open addressing primitive collections.
+ *
+ * @author lally elias <lallyelias87@gmail.com>
+ * @since 0.12.0
+ */
+final class Hashing {
+    // golden ratio multipliers, spread sequential ids across slots
+    private static final int INT_PHI = 0x9E3779B9;
+    private static final long LONG_PHI = 0x9E3779B97F4A7C15L;
+
+    // minimum table capacity, must be power of two
+    static final int MIN_CAPACITY = 8;
+
+    // maximum table capacity, must be power of two
+    static final int MAX_CAPACITY = 1 << 30;
+
+    private Hashing() {
+    }
+
+    /**
+     * Mix bits of a given int key
+     *
+     * @param key valid key
+     * @return well distributed hash
+     */
+    static int mix(int key) {
+        int hash = key * INT_PHI;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Mix bits of a given long key
+     *
+     * @param key valid key
+     * @return well distributed hash
+     */
+    static int mix(long key) {
+        long hash = key * LONG_PHI;
+        hash ^= hash >>> 32;
+        return (int) (hash ^ (hash >>> 16));
+    }
+
+    /**
+     * Compute table capacity able to hold expected entries under 3/4 load
+     *
+     * @param expected expected number of entries
+     * @return power of two capacity
+     */
+    static int capacityFor(int expected) {
+        long required = Math.max(expected, 1) * 4L / 3L + 1;
+        if (required >= MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        int capacity = Integer.highestOneBit((int) required - 1) << 1;
+        return Math.max(capacity, MIN_CAPACITY);
+    }
+
+    /**
+     * Compute resize threshold of a given capacity
+     *
+     * @param capacity table capacity
+     * @return maximum number of entries before resize
+     */
+    static int thresholdOf(int capacity) {
+        return capacity == MAX_CAPACITY ? capacity - 1 : capacity - (capacity >>> 2);
+    }
+}
@@ -0,0 +1,232 @@
+package com.github.lykmapipo.common.util;
+
+import androidx.annotation.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * A growable list of {@code int} values backed by a primitive array.
+ * <p>
+ * Unlike {@code List<Integer>}, members are never boxed.
+ * <pre>
+ * IntList counts = IntList.of(1, 2, 3);
+ * counts.add(4);
+ * int first = counts.get(0);
+ * </pre>
+ *
+ * @author lally elias <lallyelias87@gmail.com>
+ * @since 0.12.0
+ */
+public final class IntList {
+    // refs
+    private static final int[] EMPTY = new int[0];
+    private int[] elements;
+    private int size;
+
+    public IntList() {
+        this.elements = EMPTY;
+    }
+
+    public IntList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + capacity);
+        }
+        this.elements = capacity == 0 ? EMPTY : new int[capacity];
+    }
+
+    /**
+     * Create {@link IntList} of given elements
+     *
+     * @param elements list members
+     * @return list of given elements
+     * @since 0.12.0
+     */
+    @NonNull
+    public static IntList of(@NonNull int... elements) {
+        IntList list = new IntList(elements.length);
+        list.addAll(elements);
+        return list;
+    }
+
+    /**
+     * Append given value
+     *
+     * @param value value to append
+     * @since 0.12.0
+     */
+    public void add(int value) {
+        ensureCapacity(size + 1);
+        elements[size++] = value;
+    }
+
+    /**
+     * Append given values
+     *
+     * @param values values to append
+     * @since 0.12.0
+     */
+    public void addAll(@NonNull int... values) {
+        ensureCapacity(size + values.length);
+        System.arraycopy(values, 0, elements, size, values.length);
+        size += values.length;
+    }
+
+    /**
+     * Obtain value at given index
+     *
+     * @param index valid index
+     * @return value at index
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @since 0.12.0
+     */
+    public int get(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    /**
+     * Replace value at given index
+     *
+     * @param index valid index
+     * @param value new value
+     * @return previous value
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @since 0.12.0
+     */
+    public int set(int index, int value) {
+        checkIndex(index);
+        int previous = elements[index];
+        elements[index] = value;
+        return previous;
+    }
+
+    /**
+     * Remove value at given index
+     *
+     * @param index valid index
+     * @return removed value
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @since 0.12.0
+     */
+    public int removeAt(int index) {
+        checkIndex(index);
+        int removed = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return removed;
+    }
+
+    /**
+     * Obtain index of first occurrence of given value
+     *
+     * @param value value to find
+     * @return index or -1 if not found
+     * @since 0.12.0
+     */
+    public int indexOf(int value) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Check if list contains given value
+     *
+     * @param value value to find
+     * @return true if found
+     * @since 0.12.0
+     */
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Sort values in ascending order
+     *
+     * @since 0.12.0
+     */
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    /**
+     * Copy values into a new array
+     *
+     * @return array of values
+     * @since 0.12.0
+     */
+    @NonNull
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > elements.length) {
+            int grown = Math.max(capacity, elements.length + (elements.length >> 1) + 1);
+            elements = Arrays.copyOf(elements, grown);
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof IntList)) {
+            return false;
+        }
+        IntList other = (IntList) object;
+        if (size != other.size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (elements[i] != other.elements[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + elements[i];
+        }
+        return hash;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(size * 4 + 2).append('[');
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(elements[i]);
+        }
+        return builder.append(']').toString();
+    }
+}
@@ -0,0 +1,266 @@
+package com.github.lykmapipo.common.util;
+
+import androidx.annotation.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * A set of {@code int} values backed by an open addressing primitive array.
+ * <p>
+ * Unlike {@code Set<Integer>}, members are never boxed and lookups never
+ * allocate. Iteration order is unspecified.
+ * <pre>
+ * IntSet ids = IntSet.of(1, 2, 3);
+ * ids.add(4);
+ * boolean found = ids.contains(2);
+ * </pre>
+ *
+ * @author lally elias <lallyelias87@gmail.com>
+ * @since 0.12.0
+ */
+public final class IntSet {
+    // 0 marks a free slot, so 0 member is tracked separately
+    private static final int FREE = 0;
+
+    // refs
+    private int[] keys;
+    private boolean hasFree;
+    private int size;
+    private int threshold;
+
+    public IntSet() {
+        this(Hashing.MIN_CAPACITY / 2);
+    }
+
+    public IntSet(int expected) {
+        if (expected < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + expected);
+        }
+        allocate(Hashing.capacityFor(expected));
+    }
+
+    /**
+     * Create {@link IntSet} of given elements
+     *
+     * @param elements set members
+     * @return set of given elements
+     * @since 0.12.0
+     */
+    @NonNull
+    public static IntSet of(@NonNull int... elements) {
+        IntSet set = new IntSet(elements.length);
+        set.addAll(elements);
+        return set;
+    }
+
+    /**
+     * Add given value
+     *
+     * @param value value to add
+     * @return true if value was not already present
+     * @since 0.12.0
+     */
+    public boolean add(int value) {
+        if (value == FREE) {
+            if (hasFree) {
+                return false;
+            }
+            hasFree = true;
+            size++;
+            return true;
+        }
+
+        int mask = keys.length - 1;
+        int slot = Hashing.mix(value) & mask;
+        while (keys[slot] != FREE) {
+            if (keys[slot] == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = value;
+        if (++size > threshold) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * Add given values
+     *
+     * @param values values to add
+     * @since 0.12.0
+     */
+    public void addAll(@NonNull int... values) {
+        for (int value : values) {
+            add(value);
+        }
+    }
+
+    /**
+     * Check if set contains given value
+     *
+     * @param value value to find
+     * @return true if found
+     * @since 0.12.0
+     */
+    public boolean contains(int value) {
+        if (value == FREE) {
+            return hasFree;
+        }
+        int mask = keys.length - 1;
+        int slot = Hashing.mix(value) & mask;
+        while (keys[slot] != FREE) {
+            if (keys[slot] == value) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Remove given value
+     *
+     * @param value value to remove
+     * @return true if value was present
+     * @since 0.12.0
+     */
+    public boolean remove(int value) {
+        if (value == FREE) {
+            if (!hasFree) {
+                return false;
+            }
+            hasFree = false;
+            size--;
+            return true;
+        }
+
+        int mask = keys.length - 1;
+        int slot = Hashing.mix(value) & mask;
+        while (keys[slot] != FREE) {
+            if (keys[slot] == value) {
+                shiftFrom(slot);
+                size--;
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, FREE);
+        hasFree = false;
+        size = 0;
+    }
+
+    /**
+     * Copy values into a new array
+     *
+     * @return array of values in unspecified order
+     * @since 0.12.0
+     */
+    @NonNull
+    public int[] toArray() {
+        int[] values = new int[size];
+        int index = 0;
+        if (hasFree) {
+            values[index++] = FREE;
+        }
+        for (int key : keys) {
+            if (key != FREE) {
+                values[index++] = key;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Close the gap left by a removed slot, keeping probe chains intact
+     *
+     * @param slot removed slot
+     */
+    private void shiftFrom(int slot) {
+        int mask = keys.length - 1;
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (keys[next] != FREE) {
+            int home = Hashing.mix(keys[next]) & mask;
+            // move entry back only if its home is not within (gap, next]
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = FREE;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        threshold = Hashing.thresholdOf(capacity);
+    }
+
+    private void rehash(int capacity) {
+        if (keys.length == Hashing.MAX_CAPACITY) {
+            throw new IllegalStateException("Set is full");
+        }
+        int[] old = keys;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int key : old) {
+            if (key != FREE) {
+                int slot = Hashing.mix(key) & mask;
+                while (keys[slot] != FREE) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof IntSet)) {
+            return false;
+        }
+        IntSet other = (IntSet) object;
+        if (size != other.size || hasFree != other.hasFree) {
+            return false;
+        }
+        for (int key : keys) {
+            if (key != FREE && !other.contains(key)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        // order independent, as java.util.Set
+        int hash = 0;
+        for (int key : keys) {
+            hash += key;
+        }
+        return hash;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
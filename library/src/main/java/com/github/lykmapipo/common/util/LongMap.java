@@ -0,0 +1,326 @@
+package com.github.lykmapipo.common.util;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * A map of {@code long} keys to values backed by open addressing primitive arrays.
+ * <p>
+ * Unlike {@code Map<Long, V>}, keys are never boxed and lookups never
+ * allocate. Iteration order is unspecified.
+ * <pre>
+ * LongMap&lt;String&gt; names = LongMap.of(1L, "John");
+ * names.put(2L, "Jane");
+ * String name = names.get(2L);
+ * </pre>
+ *
+ * @author lally elias <lallyelias87@gmail.com>
+ * @since 0.12.0
+ */
+public final class LongMap<V> {
+    // 0 marks a free slot, so 0 key is tracked separately
+    private static final long FREE = 0L;
+
+    // refs
+    private long[] keys;
+    private Object[] values;
+    private boolean hasFree;
+    private V freeValue;
+    private int size;
+    private int threshold;
+
+    public LongMap() {
+        this(Hashing.MIN_CAPACITY / 2);
+    }
+
+    public LongMap(int expected) {
+        if (expected < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + expected);
+        }
+        allocate(Hashing.capacityFor(expected));
+    }
+
+    /**
+     * Create {@link LongMap} of given key and value
+     *
+     * @param key   map key
+     * @param value map value
+     * @return map of given key and value
+     * @since 0.12.0
+     */
+    @NonNull
+    public static <V> LongMap<V> of(long key, @Nullable V value) {
+        LongMap<V> map = new LongMap<V>(1);
+        map.put(key, value);
+        return map;
+    }
+
+    /**
+     * Associate given value with given key
+     *
+     * @param key   map key
+     * @param value map value
+     * @return previous value or null
+     * @since 0.12.0
+     */
+    @Nullable
+    public V put(long key, @Nullable V value) {
+        if (key == FREE) {
+            V previous = freeValue;
+            if (!hasFree) {
+                hasFree = true;
+                size++;
+            }
+            freeValue = value;
+            return previous;
+        }
+
+        int mask = keys.length - 1;
+        int slot = Hashing.mix(key) & mask;
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key) {
+                V previous = valueAt(slot);
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > threshold) {
+            rehash(keys.length << 1);
+        }
+        return null;
+    }
+
+    /**
+     * Obtain value of given key
+     *
+     * @param key map key
+     * @return value or null
+     * @since 0.12.0
+     */
+    @Nullable
+    public V get(long key) {
+        return getOrDefault(key, null);
+    }
+
+    /**
+     * Obtain value of given key or default value
+     *
+     * @param key          map key
+     * @param defaultValue value to return when key is absent
+     * @return value or default value
+     * @since 0.12.0
+     */
+    @Nullable
+    public V getOrDefault(long key, @Nullable V defaultValue) {
+        if (key == FREE) {
+            return hasFree ? freeValue : defaultValue;
+        }
+        int slot = slotOf(key);
+        return slot < 0 ? defaultValue : valueAt(slot);
+    }
+
+    /**
+     * Check if map contains given key
+     *
+     * @param key map key
+     * @return true if found
+     * @since 0.12.0
+     */
+    public boolean containsKey(long key) {
+        return key == FREE ? hasFree : slotOf(key) >= 0;
+    }
+
+    /**
+     * Remove given key
+     *
+     * @param key map key
+     * @return removed value or null
+     * @since 0.12.0
+     */
+    @Nullable
+    public V remove(long key) {
+        if (key == FREE) {
+            V previous = freeValue;
+            if (hasFree) {
+                hasFree = false;
+                freeValue = null;
+                size--;
+            }
+            return previous;
+        }
+
+        int slot = slotOf(key);
+        if (slot < 0) {
+            return null;
+        }
+        V previous = valueAt(slot);
+        shiftFrom(slot);
+        size--;
+        return previous;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, FREE);
+        Arrays.fill(values, null);
+        hasFree = false;
+        freeValue = null;
+        size = 0;
+    }
+
+    /**
+     * Copy keys into a new array
+     *
+     * @return array of keys in unspecified order
+     * @since 0.12.0
+     */
+    @NonNull
+    public long[] keys() {
+        long[] copy = new long[size];
+        int index = 0;
+        if (hasFree) {
+            copy[index++] = FREE;
+        }
+        for (long key : keys) {
+            if (key != FREE) {
+                copy[index++] = key;
+            }
+        }
+        return copy;
+    }
+
+    private int slotOf(long key) {
+        int mask = keys.length - 1;
+        int slot = Hashing.mix(key) & mask;
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int slot) {
+        return (V) values[slot];
+    }
+
+    /**
+     * Close the gap left by a removed slot, keeping probe chains intact
+     *
+     * @param slot removed slot
+     */
+    private void shiftFrom(int slot) {
+        int mask = keys.length - 1;
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (keys[next] != FREE) {
+            int home = Hashing.mix(keys[next]) & mask;
+            // move entry back only if its home is not within (gap, next]
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = FREE;
+        values[gap] = null;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        threshold = Hashing.thresholdOf(capacity);
+    }
+
+    private void rehash(int capacity) {
+        if (keys.length == Hashing.MAX_CAPACITY) {
+            throw new IllegalStateException("Map is full");
+        }
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE) {
+                int slot = Hashing.mix(oldKeys[i]) & mask;
+                while (keys[slot] != FREE) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof LongMap)) {
+            return false;
+        }
+        LongMap<?> other = (LongMap<?>) object;
+        if (size != other.size || hasFree != other.hasFree
+                || (hasFree && !equal(freeValue, other.freeValue))) {
+            return false;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE) {
+                int slot = other.slotOf(keys[i]);
+                if (slot < 0 || !equal(values[i], other.values[slot])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        // order independent, as java.util.Map
+        int hash = hasFree ? hashOf(freeValue) : 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE) {
+                hash += (int) (keys[i] ^ (keys[i] >>> 32)) ^ hashOf(values[i]);
+            }
+        }
+        return hash;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(size * 8 + 2).append('{');
+        for (long key : keys()) {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(key).append('=').append(get(key));
+        }
+        return builder.append('}').toString();
+    }
+
+    private static boolean equal(Object a, Object b) {
+        return a == null ? b == null : a.equals(b);
+    }
+
+    private static int hashOf(Object value) {
+        return value == null ? 0 : value.hashCode();
+    }
+}
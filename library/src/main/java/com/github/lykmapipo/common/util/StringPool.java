@@ -0,0 +1,186 @@
+package com.github.lykmapipo.common.util;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded pool which canonicalise repeated short strings.
+ * <p>
+ * Pooled strings are weakly referenced, so the pool never keeps a string
+ * alive on its own. Once full, new strings are no longer admitted until
+ * pooled ones are collected or the pool is cleared. Pool is striped by
+ * hash to keep contention low when decoding on several threads.
+ * <pre>
+ * StringPool pool = new StringPool();
+ * Common.setStringPool(pool);
+ * // decode with Common.Value.fromJson
+ * double hitRate = pool.hitRate();
+ * </pre>
+ *
+ * @author lally elias <lallyelias87@gmail.com>
+ * @since 0.12.0
+ */
+public final class StringPool {
+    /**
+     * Default maximum number of pooled strings
+     */
+    public static final int DEFAULT_MAX_SIZE = 4096;
+
+    /**
+     * Default maximum length of pooled strings
+     */
+    public static final int DEFAULT_MAX_LENGTH = 64;
+
+    // estimated heap cost of a string besides its chars
+    private static final int STRING_OVERHEAD = 24;
+
+    // number of stripes, must be power of two
+    private static final int STRIPES = 8;
+
+    // refs
+    private final WeakHashMap<String, WeakReference<String>>[] stripes;
+    private final int maxStripeSize;
+    private final int maxLength;
+    private final AtomicLong lookups = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong bytesSaved = new AtomicLong();
+
+    public StringPool() {
+        this(DEFAULT_MAX_SIZE, DEFAULT_MAX_LENGTH);
+    }
+
+    @SuppressWarnings("unchecked")
+    public StringPool(int maxSize, int maxLength) {
+        if (maxSize < 0 || maxLength < 0) {
+            throw new IllegalArgumentException("Illegal pool bounds: " + maxSize + ", " + maxLength);
+        }
+        this.stripes = new WeakHashMap[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            this.stripes[i] = new WeakHashMap<String, WeakReference<String>>();
+        }
+        this.maxStripeSize = (maxSize + STRIPES - 1) / STRIPES;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Obtain canonical instance of a given string
+     *
+     * @param value string to canonicalise
+     * @return pooled equal string, or given string if not pooled
+     * @since 0.12.0
+     */
+    @Nullable
+    public String intern(@Nullable String value) {
+        if (value == null || value.length() > maxLength) {
+            return value;
+        }
+
+        lookups.incrementAndGet();
+        WeakHashMap<String, WeakReference<String>> stripe = stripeOf(value);
+        synchronized (stripe) {
+            WeakReference<String> reference = stripe.get(value);
+            String pooled = reference != null ? reference.get() : null;
+            if (pooled != null) {
+                if (pooled != value) {
+                    hits.incrementAndGet();
+                    bytesSaved.addAndGet(STRING_OVERHEAD + 2L * value.length());
+                }
+                return pooled;
+            }
+            // size also purges collected strings
+            if (stripe.size() < maxStripeSize) {
+                stripe.put(value, new WeakReference<String>(value));
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Obtain number of canonicalised lookups
+     *
+     * @return number of lookups of strings within length bound
+     * @since 0.12.0
+     */
+    public long lookups() {
+        return lookups.get();
+    }
+
+    /**
+     * Obtain number of lookups answered by a pooled duplicate
+     *
+     * @return number of hits
+     * @since 0.12.0
+     */
+    public long hits() {
+        return hits.get();
+    }
+
+    /**
+     * Obtain ratio of lookups answered by a pooled duplicate
+     *
+     * @return hit rate between 0 and 1
+     * @since 0.12.0
+     */
+    public double hitRate() {
+        long count = lookups.get();
+        return count == 0 ? 0 : (double) hits.get() / count;
+    }
+
+    /**
+     * Obtain estimated heap bytes saved by dropping duplicates
+     *
+     * @return estimated bytes saved
+     * @since 0.12.0
+     */
+    public long bytesSaved() {
+        return bytesSaved.get();
+    }
+
+    /**
+     * Obtain number of currently pooled strings
+     *
+     * @return pool size
+     * @since 0.12.0
+     */
+    public int size() {
+        int size = 0;
+        for (WeakHashMap<String, WeakReference<String>> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Remove pooled strings and reset statistics
+     *
+     * @since 0.12.0
+     */
+    public void clear() {
+        for (WeakHashMap<String, WeakReference<String>> stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+        lookups.set(0);
+        hits.set(0);
+        bytesSaved.set(0);
+    }
+
+    private WeakHashMap<String, WeakReference<String>> stripeOf(@NonNull String value) {
+        int hash = value.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "StringPool{size=" + size() + ", lookups=" + lookups() + ", hits=" + hits()
+                + ", bytesSaved=" + bytesSaved() + "}";
+    }
+}
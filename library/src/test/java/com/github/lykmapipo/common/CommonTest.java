@@ -3,41 +3,102 @@ package com.github.lykmapipo.common;
 import android.content.Context;
 import android.content.pm.PackageManager;
 import android.net.ConnectivityManager;
+import android.net.Network;
+import android.net.NetworkInfo;
 import android.os.Bundle;
 import android.util.ArraySet;
 
 import androidx.annotation.NonNull;
+import androidx.lifecycle.Observer;
 import androidx.test.core.app.ApplicationProvider;
 
 import com.amulyakhare.textdrawable.TextDrawable;
 import com.github.lykmapipo.common.data.Query;
+import com.github.lykmapipo.common.gson.JsonArrayIterator;
+import com.github.lykmapipo.common.lifecycle.ConnectivityLiveData;
+import com.github.lykmapipo.common.network.ConnectivityMonitor;
+import com.github.lykmapipo.common.network.NetworkClass;
+import com.github.lykmapipo.common.network.NetworkExecutor;
+import com.github.lykmapipo.common.network.OfflineQueue;
+import com.github.lykmapipo.common.network.RetryScheduler;
 import com.github.lykmapipo.common.provider.Provider;
+import com.github.lykmapipo.common.util.AdaptiveMap;
+import com.github.lykmapipo.common.util.AdaptiveSet;
+import com.github.lykmapipo.common.util.ConcatList;
+import com.github.lykmapipo.common.util.ConcatSet;
+import com.github.lykmapipo.common.util.IntList;
+import com.github.lykmapipo.common.util.IntMap;
+import com.github.lykmapipo.common.util.IntSet;
+import com.github.lykmapipo.common.util.LongList;
+import com.github.lykmapipo.common.util.LongMap;
+import com.github.lykmapipo.common.util.LongSet;
+import com.github.lykmapipo.common.util.StringPool;
 import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.sun.management.ThreadMXBean;
 
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
 import org.robolectric.RobolectricTestRunner;
-
+import org.robolectric.Shadows;
+import org.robolectric.shadows.ShadowLooper;
+import org.robolectric.shadows.ShadowNetwork;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Type;
 import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
+import java.util.TimeZone;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
-
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assume.assumeTrue;
 
 @RunWith(RobolectricTestRunner.class)
 public class CommonTest {
     private Context context;
     private Provider appProvider;
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Before
     public void setup() {
         context = ApplicationProvider.getApplicationContext();
@@ -62,6 +123,15 @@ public class CommonTest {
         assertThat(gson, is(not(equalTo(null))));
     }
 
+    @Test
+    public void shouldWarmUp() {
+        Common.warmUp(Runnable::run, User.class, Profile.class);
+        Map<String, Long> report = Common.startupReport();
+        assertThat(report.containsKey(Common.STARTUP_OF), is(equalTo(true)));
+        assertThat(report.containsKey(Common.STARTUP_GSON), is(equalTo(true)));
+        assertThat(report.containsKey(Common.STARTUP_WARM_UP), is(equalTo(true)));
+    }
+
     @Test
     public void shouldBeAbleToProvideContext() {
         Context context = Common.applicationContext();
@@ -160,6 +230,126 @@ public class CommonTest {
         assertThat(converted, is(equalTo(user)));
     }
 
+    @Test
+    public void shouldUseGeneratedTypeAdapter() {
+        TypeAdapter<User> adapter = Common.gson().getAdapter(User.class);
+        assertThat(adapter.getClass().getName(), is(equalTo(User.class.getName() + "_ExposeTypeAdapter")));
+
+        User user = Common.Value.fromJson("{\"name\":\"John Doe\",\"phoneNumber\":\"+255\"}", User.class);
+        assertThat(user, is(equalTo(new User("John Doe"))));
+        assertThat(user.getPhoneNumber(), is(equalTo("+255")));
+        assertThat(Common.Value.toJson(user), is(equalTo("{\"name\":\"John Doe\",\"phoneNumber\":\"+255\"}")));
+    }
+
+    @Test
+    public void shouldFallbackToReflectiveTypeAdapter() {
+        Profile profile = new Profile("John Doe");
+        String json = Common.Value.toJson(profile);
+        assertThat(json, is(equalTo("{\"name\":\"John Doe\"}")));
+        assertThat(Common.Value.fromJson(json, Profile.class), is(equalTo(profile)));
+    }
+
+    @Test
+    public void shouldWriteValueAsJson() {
+        User user = new User("John Doe");
+        String json = "{\"name\":\"John Doe\",\"phoneNumber\":null}";
+
+        StringWriter writer = new StringWriter();
+        assertThat(Common.Value.toJson(user, writer), is(equalTo(true)));
+        assertThat(writer.toString(), is(equalTo(json)));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        assertThat(Common.Value.toJson(user, output), is(equalTo(true)));
+        assertThat(new String(output.toByteArray(), UTF_8), is(equalTo(json)));
+    }
+
+    @Test
+    public void shouldReadJsonAsValue() {
+        User user = new User("John Doe");
+        String json = "{\"name\":\"John Doe\"}";
+
+        User read = Common.Value.fromJson(new StringReader(json), User.class);
+        assertThat(read, is(equalTo(user)));
+
+        InputStream input = new ByteArrayInputStream(json.getBytes(UTF_8));
+        User streamed = Common.Value.fromJson(input, User.class);
+        assertThat(streamed, is(equalTo(user)));
+    }
+
+    @Test
+    public void shouldConvertJsonToGenericValue() {
+        String json = "[{\"name\":\"John Doe\"},{\"name\":\"Jane Doe\"}]";
+        Type listType = new TypeToken<List<User>>() {}.getType();
+        List<User> users = Common.Value.fromJson(json, listType);
+        assertThat(users.size(), is(equalTo(2)));
+        assertThat(users.get(1), is(equalTo(new User("Jane Doe"))));
+
+        String mapJson = "{\"admins\":" + json + "}";
+        Type mapType = new TypeToken<Map<String, List<User>>>() {}.getType();
+        Map<String, List<User>> groups = Common.Value.fromJson(new StringReader(mapJson), mapType);
+        assertThat(groups.get("admins").size(), is(equalTo(2)));
+        assertThat(groups.get("admins").get(0), is(equalTo(new User("John Doe"))));
+    }
+
+    @Test
+    public void shouldIterateJsonArray() throws IOException {
+        String json = "[{\"name\":\"John Doe\"},null,{\"name\":\"Jane Doe\"}]";
+        JsonArrayIterator<User> users = Common.Value.iterateJson(new StringReader(json), User.class);
+        assertThat(users.hasNext(), is(equalTo(true)));
+        assertThat(users.next(), is(equalTo(new User("John Doe"))));
+        assertThat(users.next(), is(equalTo(null)));
+        assertThat(users.next(), is(equalTo(new User("Jane Doe"))));
+        assertThat(users.hasNext(), is(equalTo(false)));
+        users.close();
+    }
+
+    @Test
+    public void shouldDecodeJsonArrayElements() {
+        String json = "[{\"name\":\"John Doe\"},{\"name\":\"Jane Doe\"}]";
+        List<User> users = new ArrayList<User>();
+        Boolean decoded = Common.Value.forEachJson(new StringReader(json), User.class, users::add);
+        assertThat(decoded, is(equalTo(true)));
+        assertThat(users.size(), is(equalTo(2)));
+
+        Boolean invalid = Common.Value.forEachJson(new StringReader("{}"), User.class, users::add);
+        assertThat(invalid, is(equalTo(false)));
+    }
+
+    @Test
+    public void shouldPoolDecodedStrings() {
+        StringPool pool = new StringPool();
+        Common.setStringPool(pool);
+        try {
+            String json = "[{\"name\":\"John Doe\"},{\"name\":\"John Doe\"},{\"name\":\"Jane\"}]";
+            Type type = new TypeToken<List<User>>() {
+            }.getType();
+            List<User> users = Common.Value.fromJson(json, type);
+            assertThat(users.size(), is(equalTo(3)));
+            assertThat(users.get(0).name == users.get(1).name, is(equalTo(true)));
+            assertThat(pool.hits(), is(equalTo(1L)));
+            assertThat(pool.lookups(), is(equalTo(3L)));
+            assertThat(pool.bytesSaved() > 0, is(equalTo(true)));
+        } finally {
+            Common.setStringPool(null);
+        }
+        assertThat(Common.stringPool(), is(equalTo(null)));
+    }
+
+    @Test
+    public void shouldBoundStringPool() {
+        StringPool pool = new StringPool(0, 4);
+        String value = new String("open");
+        assertThat(pool.intern(value) == value, is(equalTo(true)));
+        assertThat(pool.intern(new String("open")) == value, is(equalTo(false)));
+        assertThat(pool.size(), is(equalTo(0)));
+
+        pool = new StringPool(8, 4);
+        assertThat(pool.intern(value) == value, is(equalTo(true)));
+        assertThat(pool.intern(new String("open")) == value, is(equalTo(true)));
+        assertThat(pool.intern("closed"), is(equalTo("closed")));
+        assertThat(pool.hitRate(), is(equalTo(0.5)));
+    }
+
     @Test
     public void shouldCheckForEmptySet() {
         assertThat(Common.Value.isEmpty(null), is(equalTo(true)));
@@ -203,12 +393,171 @@ public class CommonTest {
         assertThat(map, is(not(equalTo(null))));
     }
 
+    @Test
+    public void shouldKeepSmallCollectionsArrayBacked() {
+        Set<Integer> set = Common.Value.setOf(1, 2, 2);
+        assertThat(set.size(), is(equalTo(2)));
+        assertThat(((AdaptiveSet<Integer>) set).isHashed(), is(equalTo(false)));
+
+        Map<String, Integer> map = Common.Value.mapOf(
+                Common.Value.mapOf("1", 1),
+                null,
+                Common.Value.mapOf("2", 2)
+        );
+        assertThat(map.size(), is(equalTo(2)));
+        assertThat(((AdaptiveMap<String, Integer>) map).isHashed(), is(equalTo(false)));
+    }
+
+    @Test
+    public void shouldPromoteLargeCollectionsToHashed() {
+        Integer[] values = new Integer[AdaptiveSet.THRESHOLD * 10];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+        Set<Integer> set = Common.Value.setOf(values);
+        assertThat(set.size(), is(equalTo(values.length)));
+        assertThat(set.contains(values.length - 1), is(equalTo(true)));
+        assertThat(((AdaptiveSet<Integer>) set).isHashed(), is(equalTo(true)));
+
+        AdaptiveMap<Integer, Integer> grown = new AdaptiveMap<Integer, Integer>();
+        for (int i = 0; i <= AdaptiveMap.THRESHOLD; i++) {
+            grown.put(i, i);
+        }
+        assertThat(grown.isHashed(), is(equalTo(true)));
+        Map<Integer, Integer> merged = Common.Value.mapOf(grown, null, Common.Value.mapOf(-1, -1));
+        assertThat(merged.size(), is(equalTo(AdaptiveMap.THRESHOLD + 2)));
+        assertThat(merged.get(-1), is(equalTo(-1)));
+        assertThat(merged, is(equalTo(Common.Value.mapOf(Common.Value.mapOf(-1, -1), null, grown))));
+    }
+
+    @Test
+    public void shouldCopyListsAndSetsOfCollections() {
+        List<Integer> first = Common.Value.listOf(1, 2);
+        List<Integer> list = Common.Value.listOf(first, Common.Value.listOf(3));
+        Set<Integer> part = Common.Value.setOf(1, 2);
+        Set<Integer> set = Common.Value.setOf(part, Common.Value.setOf(3));
+
+        // independent of given collections
+        first.add(0, 0);
+        part.add(4);
+        assertThat(list, is(equalTo(Common.Value.listOf(1, 2, 3))));
+        assertThat(set, is(equalTo(Common.Value.setOf(1, 2, 3))));
+    }
+
+    @Test
+    public void shouldConcatListsWithoutCopying() {
+        List<Integer> first = Common.Value.listOf(1, 2);
+        List<Integer> second = Common.Value.listOf(3);
+        List<Integer> list = Common.Value.concatOf(first, new ArrayList<Integer>(), second);
+        assertThat(list.size(), is(equalTo(3)));
+        assertThat(list.get(2), is(equalTo(3)));
+        assertThat(list, is(equalTo(Common.Value.listOf(1, 2, 3))));
+        assertThat(((ConcatList<Integer>) list).isCopied(), is(equalTo(false)));
+
+        list.add(4);
+        assertThat(((ConcatList<Integer>) list).isCopied(), is(equalTo(true)));
+        assertThat(list, is(equalTo(Common.Value.listOf(1, 2, 3, 4))));
+        assertThat(first.size(), is(equalTo(2)));
+        assertThat(second.size(), is(equalTo(1)));
+    }
+
+    @Test
+    public void shouldConcatSetsWithoutCopying() {
+        Set<Integer> first = Common.Value.setOf(1, 2);
+        Set<Integer> second = Common.Value.setOf(2, 3);
+        Set<Integer> set = Common.Value.unionOf(first, second);
+        assertThat(set.size(), is(equalTo(3)));
+        assertThat(set.contains(3), is(equalTo(true)));
+        assertThat(set, is(equalTo(Common.Value.setOf(1, 2, 3))));
+        assertThat(((ConcatSet<Integer>) set).isCopied(), is(equalTo(false)));
+
+        set.remove(2);
+        assertThat(((ConcatSet<Integer>) set).isCopied(), is(equalTo(true)));
+        assertThat(set, is(equalTo(Common.Value.setOf(1, 3))));
+        assertThat(first.contains(2), is(equalTo(true)));
+        assertThat(second.contains(2), is(equalTo(true)));
+    }
+
+    @Test
+    public void shouldCreatePrimitiveCollections() {
+        IntList counts = Common.Value.intListOf(1, 2, 3);
+        counts.add(4);
+        assertThat(counts.size(), is(equalTo(4)));
+        assertThat(counts.get(3), is(equalTo(4)));
+
+        LongList timestamps = Common.Value.longListOf(1L, 2L);
+        assertThat(timestamps.toArray(), is(equalTo(new long[]{1L, 2L})));
+
+        IntSet flags = Common.Value.intSetOf(0, 1, 1);
+        assertThat(flags.size(), is(equalTo(2)));
+        assertThat(flags.contains(0), is(equalTo(true)));
+
+        LongSet ids = Common.Value.longSetOf();
+        for (long id = 0; id < 1000; id++) {
+            ids.add(id * 31);
+        }
+        for (long id = 0; id < 1000; id += 2) {
+            ids.remove(id * 31);
+        }
+        assertThat(ids.size(), is(equalTo(500)));
+        assertThat(ids.contains(31L), is(equalTo(true)));
+        assertThat(ids.contains(62L), is(equalTo(false)));
+
+        LongMap<String> names = Common.Value.longMapOf(1L, "John");
+        names.put(0L, "Jane");
+        assertThat(names.get(1L), is(equalTo("John")));
+        assertThat(names.get(0L), is(equalTo("Jane")));
+        assertThat(names.remove(1L), is(equalTo("John")));
+        assertThat(names.containsKey(1L), is(equalTo(false)));
+
+        IntMap<String> codes = Common.Value.intMapOf(255, "255");
+        assertThat(codes.getOrDefault(404, "404"), is(equalTo("404")));
+    }
+
+    @Test
+    public void shouldConvertPrimitiveCollectionsToJson() {
+        assertThat(Common.Value.toJson(Common.Value.intListOf(1, 2)), is(equalTo("[1,2]")));
+        assertThat(Common.Value.toJson(Common.Value.longSetOf(5L)), is(equalTo("[5]")));
+        assertThat(Common.Value.toJson(Common.Value.longMapOf(7L, "a")), is(equalTo("{\"7\":\"a\"}")));
+
+        LongSet ids = Common.Value.fromJson("[1,2,2]", LongSet.class);
+        assertThat(ids, is(equalTo(Common.Value.longSetOf(1L, 2L))));
+
+        Type type = new TypeToken<IntMap<String>>() {
+        }.getType();
+        IntMap<String> codes = Common.Value.fromJson("{\"404\":\"missing\"}", type);
+        assertThat(codes.get(404), is(equalTo("missing")));
+    }
+
     @Test
     public void shouldJoinListString() {
         assertThat(Common.Strings.join("", "1", "2"), is(equalTo("1,2")));
         assertThat(Common.Strings.join("", Common.Value.listOf("1", "2")), is(equalTo("1,2")));
     }
 
+    @Test
+    public void shouldJoinUniqueStrings() {
+        List<String> strings = Common.Value.listOf("1", null, "2", "", "1", "3", "2");
+        assertThat(Common.Strings.join("-", strings, true), is(equalTo("1-2-3")));
+        assertThat(Common.Strings.join("-", strings, false), is(equalTo("1-2-1-3-2")));
+        assertThat(Common.Strings.join(null, (List<String>) null, true), is(equalTo("")));
+
+        Set<String> set = Common.Value.setOf("1");
+        assertThat(Common.Strings.join(" ", set, true), is(equalTo("1")));
+    }
+
+    @Test
+    public void shouldJoinStringsIntoAppendable() {
+        List<String> strings = Common.Value.listOf("1", "2", "1");
+        StringBuilder builder = new StringBuilder("values: ");
+        Common.Strings.join(builder, ", ", strings, true);
+        assertThat(builder.toString(), is(equalTo("values: 1, 2")));
+
+        StringWriter writer = new StringWriter();
+        assertThat(Common.Strings.join(writer, null, strings, false), is(equalTo(true)));
+        assertThat(writer.toString(), is(equalTo("1,2,1")));
+    }
+
     @Test
     public void shouldGetValueOrDefault() {
         User user = new User("John");
@@ -261,6 +610,53 @@ public class CommonTest {
         assertThat(dt.getDate(), is(equalTo(date.getDate() - 2)));
     }
 
+    @Test
+    public void shouldComputeDaysOnEpochMillis() {
+        Date date = new Date();
+        long millis = date.getTime();
+        assertThat(Common.Dates.clearTime(millis),
+                is(equalTo(Common.Dates.clearTime(date).getTime())));
+        assertThat(Common.Dates.midNightOf(millis),
+                is(equalTo(Common.Dates.midNightOf(date).getTime())));
+        assertThat(Common.Dates.addDays(millis, 2),
+                is(equalTo(Common.Dates.addDays(date, 2).getTime())));
+        assertThat(Common.Dates.before(millis, 1),
+                is(equalTo(Common.Dates.yesterdayOf(date).getTime())));
+        assertThat(Common.Dates.after(millis, -1),
+                is(equalTo(Common.Dates.tomorrowOf(date).getTime())));
+        assertThat(Common.Dates.tomorrowOf(millis), is(equalTo(Common.Dates.after(millis, 1))));
+        assertThat(Common.Dates.yesterdayOf(millis), is(equalTo(Common.Dates.before(millis, 1))));
+        assertThat(Common.Dates.todayMillis(), is(equalTo(Common.Dates.today().getTime())));
+    }
+
+    @Test
+    public void shouldComputeDaysAcrossDaylightSaving() {
+        TimeZone timeZone = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("Africa/Dar_es_Salaam"));
+            Common.Dates.invalidate();
+            assertThat(Common.Dates.clearTime(1548968400000L), is(equalTo(1548968400000L)));
+            assertThat(Common.Dates.clearTime(1548892800000L), is(equalTo(1548882000000L)));
+
+            // day of 23 hours
+            TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+            Common.Dates.invalidate();
+            assertThat(Common.Dates.clearTime(1552237200000L), is(equalTo(1552194000000L)));
+            assertThat(Common.Dates.midNightOf(1552237200000L), is(equalTo(1552276800000L - 1)));
+            assertThat(Common.Dates.tomorrowOf(1552237200000L), is(equalTo(1552276800000L)));
+
+            // skipped mid night, day starts at 01:00
+            TimeZone.setDefault(TimeZone.getTimeZone("America/Sao_Paulo"));
+            Common.Dates.invalidate();
+            assertThat(Common.Dates.clearTime(1541343600000L), is(equalTo(1541300400000L)));
+            assertThat(Common.Dates.yesterdayOf(1541343600000L), is(equalTo(1541214000000L)));
+            assertThat(Common.Dates.midNightOf(1541214000000L), is(equalTo(1541300400000L - 1)));
+        } finally {
+            TimeZone.setDefault(timeZone);
+            Common.Dates.invalidate();
+        }
+    }
+
     @Test
     public void shouldObtainToday() {
         Date dt = Common.Dates.today();
@@ -351,6 +747,40 @@ public class CommonTest {
         assertThat(after, is(equalTo(true)));
     }
 
+    @Test
+    public void shouldUseClockForToday() {
+        TimeZone timeZone = TimeZone.getDefault();
+        long[] now = {Common.Dates.parseIso("2019-01-31T23:59:59.999+03:00", 0L)};
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("Africa/Dar_es_Salaam"));
+            Common.Dates.invalidate();
+            Common.Dates.setClock(() -> now[0]);
+            Date today = Common.Dates.parse("2019-01-31", "yyyy-MM-dd");
+            Date tomorrow = Common.Dates.parse("2019-02-01", "yyyy-MM-dd");
+
+            assertThat(Common.Dates.now(), is(equalTo(now[0])));
+            assertThat(Common.Dates.today(), is(equalTo(today)));
+            assertThat(Common.Dates.todayMidNight(), is(equalTo(new Date(now[0]))));
+            assertThat(Common.Dates.tomorrow(), is(equalTo(tomorrow)));
+            assertThat(Common.Dates.yesterday(), is(equalTo(Common.Dates.parse("2019-01-30", "yyyy-MM-dd"))));
+            assertThat(Common.Dates.dayOfMonthOf(), is(equalTo(31)));
+            assertThat(Common.Dates.isBeforeToday(new Date(today.getTime() - 1)), is(equalTo(true)));
+            assertThat(Common.Dates.isBeforeToday(today), is(equalTo(false)));
+            assertThat(Common.Dates.isAfterToday(new Date(today.getTime() + 1)), is(equalTo(true)));
+
+            // crossing mid night moves today
+            now[0] += 1;
+            assertThat(Common.Dates.today(), is(equalTo(tomorrow)));
+            assertThat(Common.Dates.todayMillis(), is(equalTo(now[0])));
+            assertThat(Common.Dates.isBeforeToday(today), is(equalTo(true)));
+        } finally {
+            Common.Dates.setClock(null);
+            TimeZone.setDefault(timeZone);
+            Common.Dates.invalidate();
+        }
+        assertThat(Common.Dates.clock(), is(sameInstance(Common.Dates.Clock.SYSTEM)));
+    }
+
     @Test
     public void shouldParseDate() {
         Date dt = Common.Dates.parse("31 Jan 2019", "dd MMM yyyy");
@@ -365,10 +795,138 @@ public class CommonTest {
         assertThat(df, is(equalTo("31 Jan 2019")));
     }
 
+    @Test
+    public void shouldParseIsoDate() {
+        assertThat(Common.Dates.parseIso("2019-01-31T20:53:21Z").getTime(), is(equalTo(1548968001000L)));
+        assertThat(Common.Dates.parseIso("2019-01-31T20:53:21.1Z").getTime(), is(equalTo(1548968001100L)));
+        assertThat(Common.Dates.parseIso("2019-01-31T20:53:21.123456Z").getTime(), is(equalTo(1548968001123L)));
+        assertThat(Common.Dates.parseIso("2019-01-31T23:53:21.123+03:00").getTime(), is(equalTo(1548968001123L)));
+        assertThat(Common.Dates.parseIso("2019-01-31T23:53:21+0300").getTime(), is(equalTo(1548968001000L)));
+        assertThat(Common.Dates.parseIso("2019-01-31T17:23-03:30").getTime(), is(equalTo(1548967980000L)));
+        assertThat(Common.Dates.parseIso("2019-01-31"), is(equalTo(Common.Dates.parse("2019-01-31", "yyyy-MM-dd"))));
+
+        String[] invalids = {"", "2019", "2019-02-29", "2019-13-01", "2019-01-31T", "2019-01-31T24:00Z",
+                "2019-01-31T23:5Z", "2019-01-31T23:53:21.Z", "2019-01-31T23:53+3", "2019/01/31"};
+        for (String invalid : invalids) {
+            assertThat(Common.Dates.parseIso(invalid), is(equalTo(null)));
+            assertThat(Common.Dates.parseIso(invalid, -1L), is(equalTo(-1L)));
+        }
+    }
+
+    @Test
+    public void shouldParseAndFormatIsoDateAsSimpleDateFormat() throws Exception {
+        String[] patterns = {"yyyy-MM-dd'T'HH:mm:ss.SSSXXX", "yyyy-MM-dd'T'HH:mm:ssXX",
+                "yyyy-MM-dd'T'HH:mmX", "yyyy-MM-dd'T'HH:mm:ss.SSS"};
+        String[] zones = {"UTC", "GMT+03:00", "GMT-09:30", "America/New_York", "Asia/Kolkata"};
+        SimpleDateFormat utc = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", Locale.US);
+        utc.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+        Random random = new Random(17);
+        for (int i = 0; i < 10000; i++) {
+            // between 1900 and 2100
+            long millis = -2208988800000L + (long) (random.nextDouble() * 6311433600000L);
+            assertThat(Common.Dates.formatIso(millis), is(equalTo(utc.format(new Date(millis)))));
+
+            SimpleDateFormat format = new SimpleDateFormat(patterns[i % patterns.length], Locale.US);
+            if (format.toPattern().endsWith("X")) {
+                format.setTimeZone(TimeZone.getTimeZone(zones[random.nextInt(zones.length)]));
+            }
+            String formatted = format.format(new Date(millis));
+            assertThat(Common.Dates.parseIso(formatted, Long.MIN_VALUE),
+                    is(equalTo(format.parse(formatted).getTime())));
+        }
+    }
+
+    @Test
+    public void shouldConvertDateToIsoJson() {
+        Date date = new Date(1548968001123L);
+        String json = Common.Value.toJson(date);
+        assertThat(json, is(equalTo("\"2019-01-31T20:53:21.123Z\"")));
+        assertThat(Common.Value.fromJson(json, Date.class), is(equalTo(date)));
+        assertThat(Common.Value.fromJson("null", Date.class), is(equalTo(null)));
+
+        // gson default format is still readable
+        String legacy = DateFormat.getDateTimeInstance(DateFormat.DEFAULT, DateFormat.DEFAULT, Locale.US)
+                .format(new Date(1548968001000L));
+        assertThat(Common.Value.fromJson(Common.Value.toJson(legacy), Date.class),
+                is(equalTo(new Date(1548968001000L))));
+    }
+
+    @Test
+    public void shouldFormatDateConcurrently() throws Exception {
+        Date date = Common.Dates.parse("31 Jan 2019", "dd MMM yyyy");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<Future<String>>();
+            for (int i = 0; i < 100; i++) {
+                results.add(executor.submit(() -> Common.Dates.format(
+                        Common.Dates.parse("31 Jan 2019", "dd MMM yyyy"), "yyyy-MM-dd")));
+            }
+            for (Future<String> result : results) {
+                assertThat(result.get(), is(equalTo(Common.Dates.format(date, "yyyy-MM-dd"))));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldInvalidateCachedFormatters() {
+        Locale locale = Locale.getDefault();
+        TimeZone timeZone = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("GMT"));
+            Common.Dates.invalidate();
+            assertThat(Common.Dates.format(new Date(0L), "HH"), is(equalTo("00")));
+
+            TimeZone.setDefault(TimeZone.getTimeZone("GMT+03:00"));
+            Common.Dates.invalidate();
+            assertThat(Common.Dates.format(new Date(0L), "HH"), is(equalTo("03")));
+
+            // locale changes are detected without invalidation
+            Locale.setDefault(Locale.FRANCE);
+            assertThat(Common.Dates.format(new Date(0L), "MMMM"), is(equalTo("janvier")));
+        } finally {
+            Locale.setDefault(locale);
+            TimeZone.setDefault(timeZone);
+            Common.Dates.invalidate();
+        }
+    }
+
     @Test
     public void shouldObtainTimezone() {
         String tz = Common.Dates.timezone();
         assertThat(tz, is(not(equalTo(null))));
+
+        TimeZone timeZone = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("Africa/Dar_es_Salaam"));
+            Common.Dates.invalidate();
+            assertThat(Common.Dates.timezone(), is(equalTo("Africa/Dar_es_Salaam")));
+        } finally {
+            TimeZone.setDefault(timeZone);
+            Common.Dates.invalidate();
+        }
+        assertThat(Common.Dates.timezone(), is(equalTo(tz)));
+    }
+
+    @Test
+    public void shouldRecheckDefaultTimezoneWithoutInvalidation() throws Exception {
+        TimeZone timeZone = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("Africa/Dar_es_Salaam"));
+            Common.Dates.invalidate();
+            assertThat(Common.Dates.format(new Date(0L), "HH"), is(equalTo("03")));
+
+            // default timezone is cached, and re-read within a second
+            TimeZone.setDefault(TimeZone.getTimeZone("GMT"));
+            Thread.sleep(1100L);
+            assertThat(Common.Dates.timezone(), is(equalTo("GMT")));
+            assertThat(Common.Dates.format(new Date(0L), "HH"), is(equalTo("00")));
+        } finally {
+            TimeZone.setDefault(timeZone);
+            Common.Dates.invalidate();
+        }
     }
 
     @Test
@@ -427,6 +985,53 @@ public class CommonTest {
         assertThat(Common.Dates.secondOf(), is(not(equalTo(null))));
     }
 
+    @Test
+    public void shouldObtainDateFields() {
+        Date date = Common.Dates.parse("31 Jan 2019 23:53:21", "dd MMM yyyy HH:mm:ss");
+        Common.Dates.Fields fields = Common.Dates.fieldsOf(date);
+        assertThat(fields.getMillis(), is(equalTo(date.getTime())));
+        assertThat(fields.getYear(), is(equalTo(2019)));
+        assertThat(fields.getMonth(), is(equalTo(Calendar.JANUARY)));
+        assertThat(fields.getDayOfMonth(), is(equalTo(31)));
+        assertThat(fields.getDayOfWeek(), is(equalTo(Calendar.THURSDAY)));
+        assertThat(fields.getHourOfDay(), is(equalTo(23)));
+        assertThat(fields.getMinute(), is(equalTo(53)));
+        assertThat(fields.getSecond(), is(equalTo(21)));
+        assertThat(fields.getMillisecond(), is(equalTo(0)));
+
+        // reused holder
+        Date leap = Common.Dates.parse("29 Feb 2020 07:05:09", "dd MMM yyyy HH:mm:ss");
+        assertThat(Common.Dates.fieldsOf(leap.getTime(), fields), is(equalTo(fields)));
+        assertThat(fields.getYear(), is(equalTo(2020)));
+        assertThat(fields.getMonth(), is(equalTo(Calendar.FEBRUARY)));
+        assertThat(fields.getDayOfMonth(), is(equalTo(29)));
+        assertThat(fields.getDayOfWeek(), is(equalTo(Calendar.SATURDAY)));
+        assertThat(fields.getHourOfDay(), is(equalTo(7)));
+    }
+
+    @Test
+    public void shouldObtainDateFieldsOfTimes() {
+        long[] times = new long[500];
+        long start = -2208988800000L; // 1900-01-01
+        for (int i = 0; i < times.length; i++) {
+            times[i] = start + i * 7919L * 3600000L + i * 61001L;
+        }
+
+        Common.Dates.FieldArrays fields = Common.Dates.fieldsOf(times);
+        assertThat(fields.size(), is(equalTo(times.length)));
+        Calendar calendar = Calendar.getInstance();
+        for (int i = 0; i < times.length; i++) {
+            calendar.setTimeInMillis(times[i]);
+            assertThat(fields.getYears()[i], is(equalTo(calendar.get(Calendar.YEAR))));
+            assertThat(fields.getMonths()[i], is(equalTo(calendar.get(Calendar.MONTH))));
+            assertThat(fields.getDaysOfMonth()[i], is(equalTo(calendar.get(Calendar.DAY_OF_MONTH))));
+            assertThat(fields.getDaysOfWeek()[i], is(equalTo(calendar.get(Calendar.DAY_OF_WEEK))));
+            assertThat(fields.getHoursOfDay()[i], is(equalTo(calendar.get(Calendar.HOUR_OF_DAY))));
+            assertThat(fields.getMinutes()[i], is(equalTo(calendar.get(Calendar.MINUTE))));
+            assertThat(fields.getSeconds()[i], is(equalTo(calendar.get(Calendar.SECOND))));
+        }
+    }
+
     @Test
     public void shouldObtainDateDayOfWeekDisplayName() {
         Date date = Common.Dates.parse("31 Jan 2019 23:53:21", "dd MMM yyyy HH:mm:ss");
@@ -443,6 +1048,185 @@ public class CommonTest {
         assertThat(Common.Dates.monthDisplayNameOf(), is(not(equalTo(null))));
     }
 
+    @Test
+    public void shouldObtainDateDisplayNamesOfStyle() {
+        Date date = Common.Dates.parse("31 Jan 2019 23:53:21", "dd MMM yyyy HH:mm:ss");
+        assertThat(Common.Dates.dayOfWeekDisplayNameOf(date, Calendar.SHORT), is(equalTo("Thu")));
+        assertThat(Common.Dates.dayOfWeekDisplayNameOf(date, Calendar.LONG), is(equalTo("Thursday")));
+        assertThat(Common.Dates.monthDisplayNameOf(date, Calendar.SHORT), is(equalTo("Jan")));
+        assertThat(Common.Dates.monthDisplayNameOf(date, Calendar.LONG), is(equalTo("January")));
+
+        Locale locale = Locale.getDefault();
+        try {
+            // locale changes are detected without invalidation
+            Locale.setDefault(Locale.FRANCE);
+            Calendar calendar = Calendar.getInstance();
+            for (int day = 0; day < 366; day += 3) {
+                long millis = date.getTime() + day * 86400000L;
+                calendar.setTimeInMillis(millis);
+                for (int style : new int[]{Calendar.SHORT, Calendar.LONG}) {
+                    assertThat(Common.Dates.dayOfWeekDisplayNameOf(millis, style), is(equalTo(
+                            calendar.getDisplayName(Calendar.DAY_OF_WEEK, style, Locale.FRANCE))));
+                    assertThat(Common.Dates.monthDisplayNameOf(millis, style), is(equalTo(
+                            calendar.getDisplayName(Calendar.MONTH, style, Locale.FRANCE))));
+                }
+            }
+        } finally {
+            Locale.setDefault(locale);
+        }
+    }
+
+    @Test
+    public void shouldObtainRelativeTime() {
+        TimeZone timeZone = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("Africa/Dar_es_Salaam"));
+            Common.Dates.invalidate();
+            long now = Common.Dates.parseIso("2019-01-31T15:00:00+03:00", 0L);
+            long minute = 60000L;
+            long hour = 60 * minute;
+            long day = 24 * hour;
+
+            assertThat(Common.Dates.relativeTimeOf(now - 10000L, now), is(equalTo("Just now")));
+            assertThat(Common.Dates.relativeTimeOf(now + 10000L, now), is(equalTo("Just now")));
+            assertThat(Common.Dates.relativeTimeOf(now - 5 * minute, now), is(equalTo("5 min ago")));
+            assertThat(Common.Dates.relativeTimeOf(now - hour, now), is(equalTo("1 hour ago")));
+            assertThat(Common.Dates.relativeTimeOf(now - 3 * hour, now), is(equalTo("3 hours ago")));
+            assertThat(Common.Dates.relativeTimeOf(now - 16 * hour, now), is(equalTo("Yesterday")));
+            assertThat(Common.Dates.relativeTimeOf(now - 2 * day, now), is(equalTo("Tuesday")));
+            assertThat(Common.Dates.relativeTimeOf(now - 30 * day, now), is(equalTo("Jan 1, 2019")));
+
+            // labels are cached per bucket
+            assertThat(Common.Dates.relativeTimeOf(now - 5 * minute - 1000L, now),
+                    is(sameInstance(Common.Dates.relativeTimeOf(now - 5 * minute, now))));
+            assertThat(Common.Dates.relativeTimeOf(now - 30 * day + hour, now),
+                    is(sameInstance(Common.Dates.relativeTimeOf(now - 30 * day, now))));
+        } finally {
+            TimeZone.setDefault(timeZone);
+            Common.Dates.invalidate();
+        }
+    }
+
+    @Test
+    public void shouldObtainRelativeTimeRefresh() {
+        TimeZone timeZone = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("Africa/Dar_es_Salaam"));
+            Common.Dates.invalidate();
+            long now = Common.Dates.parseIso("2019-01-31T15:00:00+03:00", 0L);
+            long midnight = Common.Dates.parseIso("2019-02-01T00:00:00+03:00", 0L);
+            long minute = 60000L;
+            long hour = 60 * minute;
+            long day = 24 * hour;
+
+            assertThat(Common.Dates.nextRefreshOf(now - 10000L, now), is(equalTo(now + 50000L)));
+            assertThat(Common.Dates.nextRefreshOf(now - 5 * minute, now), is(equalTo(now + minute)));
+            assertThat(Common.Dates.nextRefreshOf(now - 3 * hour, now), is(equalTo(now + hour)));
+            assertThat(Common.Dates.nextRefreshOf(now - 16 * hour, now), is(equalTo(midnight)));
+            assertThat(Common.Dates.nextRefreshOf(now - 30 * day, now), is(equalTo(Long.MAX_VALUE)));
+
+            long[] visible = {now - 30 * day, now - 3 * hour, now - 5 * minute - 20000L};
+            assertThat(Common.Dates.nextRefreshOf(visible, now), is(equalTo(now + 40000L)));
+            assertThat(Common.Dates.isRelativeTimeStale(visible[2], now, now + 40000L), is(equalTo(true)));
+            assertThat(Common.Dates.isRelativeTimeStale(visible[1], now, now + 40000L), is(equalTo(false)));
+            assertThat(Common.Dates.isRelativeTimeStale(visible[0], now, now + 40 * day), is(equalTo(false)));
+
+            // labels rendered on earlier days, mixed within a rebind
+            long earlier = now - 3 * day;
+            assertThat(Common.Dates.isRelativeTimeStale(earlier - 16 * hour, earlier, now), is(equalTo(true)));
+            assertThat(Common.Dates.isRelativeTimeStale(now - 40 * day, earlier, now), is(equalTo(false)));
+            assertThat(Common.Dates.isRelativeTimeStale(now - 16 * hour, now, midnight - 1), is(equalTo(false)));
+            assertThat(Common.Dates.isRelativeTimeStale(now - 16 * hour, now, midnight), is(equalTo(true)));
+        } finally {
+            TimeZone.setDefault(timeZone);
+            Common.Dates.invalidate();
+        }
+    }
+
+    @Test
+    public void shouldBucketTimes() {
+        TimeZone timeZone = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("Africa/Dar_es_Salaam"));
+            Common.Dates.invalidate();
+            long[] times = {
+                    Common.Dates.parseIso("2019-01-31T23:00:00+03:00", 0L),
+                    Common.Dates.parseIso("2019-01-31T00:00:00+03:00", 0L),
+                    Common.Dates.parseIso("2019-01-30T23:59:59+03:00", 0L),
+                    Common.Dates.parseIso("2019-01-27T10:00:00+03:00", 0L),
+                    Common.Dates.parseIso("2019-01-26T10:00:00+03:00", 0L),
+                    Common.Dates.parseIso("2018-12-31T10:00:00+03:00", 0L)
+            };
+
+            Common.Dates.Buckets buckets = Common.Dates.bucketsOf(times);
+            assertThat(buckets.size(), is(equalTo(times.length)));
+            int[] days = buckets.getDays();
+            assertThat(days[0], is(equalTo(days[1])));
+            assertThat(days[1] - days[2], is(equalTo(1)));
+            assertThat(days[0] - days[5], is(equalTo(31)));
+
+            // weeks start on sunday in default locale
+            int[] weeks = buckets.getWeeks();
+            assertThat(weeks[0], is(equalTo(weeks[3])));
+            assertThat(weeks[3] - weeks[4], is(equalTo(1)));
+
+            int[] months = buckets.getMonths();
+            assertThat(months[0], is(equalTo(2019 * 12 + Calendar.JANUARY)));
+            assertThat(months[4], is(equalTo(months[0])));
+            assertThat(months[5], is(equalTo(2018 * 12 + Calendar.DECEMBER)));
+        } finally {
+            TimeZone.setDefault(timeZone);
+            Common.Dates.invalidate();
+        }
+    }
+
+    @Test
+    public void shouldSectionTimes() {
+        TimeZone timeZone = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("Africa/Dar_es_Salaam"));
+            Common.Dates.invalidate();
+            long now = Common.Dates.parseIso("2019-01-31T15:00:00+03:00", 0L);
+            long[] times = {
+                    Common.Dates.parseIso("2019-01-31T14:00:00+03:00", 0L),
+                    Common.Dates.parseIso("2019-01-31T09:00:00+03:00", 0L),
+                    Common.Dates.parseIso("2019-01-30T09:00:00+03:00", 0L),
+                    Common.Dates.parseIso("2019-01-28T09:00:00+03:00", 0L),
+                    Common.Dates.parseIso("2019-01-27T09:00:00+03:00", 0L),
+                    Common.Dates.parseIso("2019-01-20T09:00:00+03:00", 0L),
+                    Common.Dates.parseIso("2019-01-02T09:00:00+03:00", 0L),
+                    Common.Dates.parseIso("2018-12-31T09:00:00+03:00", 0L)
+            };
+
+            Common.Dates.Sections sections = Common.Dates.sectionsOf(times, now);
+            assertThat(sections.size(), is(equalTo(5)));
+            assertThat(sections.getItemCount(), is(equalTo(times.length)));
+            int[] positions = {0, 2, 3, 5, 7};
+            int[] kinds = {Common.Dates.Sections.TODAY, Common.Dates.Sections.YESTERDAY,
+                    Common.Dates.Sections.THIS_WEEK, Common.Dates.Sections.MONTH,
+                    Common.Dates.Sections.MONTH};
+            for (int i = 0; i < positions.length; i++) {
+                assertThat(sections.getPosition(i), is(equalTo(positions[i])));
+                assertThat(sections.getKind(i), is(equalTo(kinds[i])));
+            }
+
+            assertThat(sections.sectionOf(1), is(equalTo(0)));
+            assertThat(sections.sectionOf(4), is(equalTo(2)));
+            assertThat(sections.sectionOf(7), is(equalTo(4)));
+            assertThat(sections.isSectionStart(5), is(equalTo(true)));
+            assertThat(sections.isSectionStart(6), is(equalTo(false)));
+
+            assertThat(Common.Dates.sectionTitleOf(sections, 0), is(equalTo("Today")));
+            assertThat(Common.Dates.sectionTitleOf(sections, 1), is(equalTo("Yesterday")));
+            assertThat(Common.Dates.sectionTitleOf(sections, 2), is(equalTo("This week")));
+            assertThat(Common.Dates.sectionTitleOf(sections, 3), is(equalTo("January 2019")));
+            assertThat(Common.Dates.sectionTitleOf(sections, 4), is(equalTo("December 2018")));
+        } finally {
+            TimeZone.setDefault(timeZone);
+            Common.Dates.invalidate();
+        }
+    }
+
     @Test
     public void shouldProvideConnectivityManager() {
         ConnectivityManager manager = Common.Network.getConnectivityManager();
@@ -455,6 +1239,473 @@ public class CommonTest {
         assertThat(isConnected, is(not(equalTo(null))));
     }
 
+    @Test
+    public void shouldMonitorConnectivity() {
+        ConnectivityManager manager = Common.Network.getConnectivityManager();
+        ConnectivityMonitor monitor = new ConnectivityMonitor(manager);
+
+        // query directly before network callback reports
+        NetworkInfo networkInfo = manager.getActiveNetworkInfo();
+        boolean expected = networkInfo != null && networkInfo.isConnectedOrConnecting();
+        assertThat(monitor.snapshot(), is(equalTo(null)));
+        assertThat(monitor.isConnected(), is(equalTo(expected)));
+
+        List<Boolean> changes = new ArrayList<>();
+        monitor.addListener(snapshot -> changes.add(snapshot.isConnected()));
+        monitor.publish(new ConnectivityMonitor.Snapshot(false, null));
+        assertThat(monitor.isConnected(), is(equalTo(false)));
+
+        // only changes are notified
+        monitor.publish(new ConnectivityMonitor.Snapshot(false, null));
+        monitor.publish(new ConnectivityMonitor.Snapshot(true, null));
+        assertThat(monitor.isConnected(), is(equalTo(true)));
+        assertThat(changes.size(), is(equalTo(2)));
+        assertThat(changes.get(0), is(equalTo(false)));
+        assertThat(changes.get(1), is(equalTo(true)));
+    }
+
+    @Test
+    public void shouldDropDeadNetworksWhenOnLostIsMissed() {
+        ConnectivityManager manager = Common.Network.getConnectivityManager();
+        NetworkInfo networkInfo = manager.getActiveNetworkInfo();
+        ConnectivityMonitor monitor = new ConnectivityMonitor(manager, false);
+        ConnectivityManager.NetworkCallback callback = monitor.callback();
+        monitor.acquire();
+        Network cellular = ShadowNetwork.newInstance(1);
+        Network wifi = ShadowNetwork.newInstance(2);
+
+        callback.onAvailable(cellular);
+        callback.onAvailable(wifi);
+        assertThat(monitor.isConnected(), is(equalTo(true)));
+
+        // wifi onLost is missed, then device goes offline
+        Shadows.shadowOf(manager).setActiveNetworkInfo(null);
+        callback.onLost(cellular);
+        assertThat(monitor.isConnected(), is(equalTo(false)));
+
+        // and back online
+        Shadows.shadowOf(manager).setActiveNetworkInfo(networkInfo);
+        callback.onAvailable(cellular);
+        assertThat(monitor.isConnected(), is(equalTo(true)));
+        callback.onLost(cellular);
+        assertThat(monitor.isConnected(), is(equalTo(false)));
+    }
+
+    @Test
+    public void shouldNotifyConnectivityListenersOutsideMonitorLock() throws Exception {
+        ConnectivityManager manager = Common.Network.getConnectivityManager();
+        ConnectivityMonitor monitor = new ConnectivityMonitor(manager, false);
+        monitor.acquire();
+
+        // listeners may restart monitor from other threads while notified
+        boolean[] blocked = {false};
+        monitor.addListener(snapshot -> {
+            Thread restart = new Thread(() -> {
+                monitor.release();
+                monitor.acquire();
+            });
+            restart.start();
+            try {
+                restart.join(5000L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            blocked[0] = restart.isAlive();
+        });
+        monitor.callback().onAvailable(ShadowNetwork.newInstance(1));
+        assertThat(blocked[0], is(equalTo(false)));
+        assertThat(monitor.isStarted(), is(equalTo(true)));
+        monitor.release();
+    }
+
+    @Test
+    public void shouldReleaseNetworkCallbackAfterLastObserver() {
+        ConnectivityManager manager = Common.Network.getConnectivityManager();
+        ConnectivityMonitor monitor = new ConnectivityMonitor(manager, false);
+        ConnectivityLiveData first = new ConnectivityLiveData(monitor, 100L);
+        ConnectivityLiveData second = new ConnectivityLiveData(monitor, 100L);
+        Observer<Boolean> observer = value -> {
+        };
+
+        first.observeForever(observer);
+        second.observeForever(observer);
+        assertThat(monitor.isStarted(), is(equalTo(true)));
+        assertThat(monitor.getReferenceCount(), is(equalTo(2)));
+        assertThat(Shadows.shadowOf(manager).getNetworkCallbacks()
+                .contains(monitor.callback()), is(equalTo(true)));
+
+        first.removeObserver(observer);
+        assertThat(monitor.isStarted(), is(equalTo(true)));
+
+        // callback is unregistered once no one observe
+        second.removeObserver(observer);
+        assertThat(monitor.isStarted(), is(equalTo(false)));
+        assertThat(monitor.getReferenceCount(), is(equalTo(0)));
+        assertThat(Shadows.shadowOf(manager).getNetworkCallbacks()
+                .contains(monitor.callback()), is(equalTo(false)));
+    }
+
+    @Test
+    public void shouldShareConnectivityMonitor() {
+        ConnectivityMonitor monitor = Common.Network.monitor();
+        assertThat(monitor, is(sameInstance(Common.Network.monitor())));
+
+        // process lifetime reference outlives observers
+        assertThat(monitor.isStarted(), is(equalTo(true)));
+        int references = monitor.getReferenceCount();
+        assertThat(references >= 1, is(equalTo(true)));
+        Observer<Boolean> observer = value -> {
+        };
+        Common.Network.observe().observeForever(observer);
+        assertThat(monitor.getReferenceCount(), is(equalTo(references + 1)));
+        Common.Network.observe().removeObserver(observer);
+        assertThat(monitor.getReferenceCount(), is(equalTo(references)));
+        assertThat(monitor.isStarted(), is(equalTo(true)));
+    }
+
+    @Test
+    public void shouldObserveDistinctConnectivityChanges() {
+        ConnectivityMonitor monitor = new ConnectivityMonitor(Common.Network.getConnectivityManager());
+        monitor.publish(new ConnectivityMonitor.Snapshot(true, null));
+        ConnectivityLiveData status = new ConnectivityLiveData(monitor, 100L);
+
+        List<Boolean> values = new ArrayList<>();
+        Observer<Boolean> observer = values::add;
+        status.observeForever(observer);
+        assertThat(values.size(), is(equalTo(1)));
+        assertThat(values.get(0), is(equalTo(true)));
+
+        // flapping within window is coalesced
+        monitor.publish(new ConnectivityMonitor.Snapshot(false, null));
+        monitor.publish(new ConnectivityMonitor.Snapshot(true, null));
+        ShadowLooper.runUiThreadTasksIncludingDelayedTasks();
+        assertThat(values.size(), is(equalTo(1)));
+
+        monitor.publish(new ConnectivityMonitor.Snapshot(false, null));
+        ShadowLooper.runUiThreadTasksIncludingDelayedTasks();
+        assertThat(values.size(), is(equalTo(2)));
+        assertThat(values.get(1), is(equalTo(false)));
+
+        // no longer listen once inactive
+        status.removeObserver(observer);
+        monitor.publish(new ConnectivityMonitor.Snapshot(true, null));
+        ShadowLooper.runUiThreadTasksIncludingDelayedTasks();
+        assertThat(status.getValue(), is(equalTo(false)));
+    }
+
+    @Test
+    public void shouldShareConnectivityLiveData() {
+        ConnectivityLiveData status = Common.Network.observe();
+        assertThat(status, is(sameInstance(Common.Network.observe())));
+    }
+
+    @Test
+    public void shouldClassifyNetwork() {
+        assertThat(NetworkClass.tierOf(0), is(equalTo(NetworkClass.TIER_UNKNOWN)));
+        assertThat(NetworkClass.tierOf(100), is(equalTo(NetworkClass.TIER_SLOW)));
+        assertThat(NetworkClass.tierOf(1500), is(equalTo(NetworkClass.TIER_MODERATE)));
+        assertThat(NetworkClass.tierOf(30000), is(equalTo(NetworkClass.TIER_FAST)));
+        assertThat(NetworkClass.of(null), is(sameInstance(NetworkClass.UNKNOWN)));
+
+        NetworkClass slow = new NetworkClass(NetworkClass.TIER_SLOW, 100, true, true);
+        NetworkClass wifi = new NetworkClass(NetworkClass.TIER_FAST, 30000, false, true);
+        NetworkClass lte = new NetworkClass(NetworkClass.TIER_FAST, 30000, true, true);
+        assertThat(slow.getConcurrency() < lte.getConcurrency(), is(equalTo(true)));
+        assertThat(lte.getConcurrency() < wifi.getConcurrency(), is(equalTo(true)));
+
+        // bandwidth fluctuations within a tier are not changes
+        NetworkClass wifiAgain = new NetworkClass(NetworkClass.TIER_FAST, 42000, false, true);
+        assertThat(wifiAgain, is(equalTo(wifi)));
+        assertThat(lte, is(not(equalTo(wifi))));
+    }
+
+    @Test
+    public void shouldResizeNetworkExecutor() throws Exception {
+        NetworkExecutor executor = new NetworkExecutor(3);
+        assertThat(executor.getConcurrency(), is(equalTo(3)));
+
+        NetworkClass wifi = new NetworkClass(NetworkClass.TIER_FAST, 30000, false, true);
+        executor.onConnectivityChanged(new ConnectivityMonitor.Snapshot(true, null, wifi));
+        assertThat(executor.getConcurrency(), is(equalTo(wifi.getConcurrency())));
+        assertThat(executor.getCorePoolSize(), is(equalTo(wifi.getConcurrency())));
+
+        NetworkClass slow = new NetworkClass(NetworkClass.TIER_SLOW, 100, true, true);
+        executor.onConnectivityChanged(new ConnectivityMonitor.Snapshot(true, null, slow));
+        assertThat(executor.getConcurrency(), is(equalTo(slow.getConcurrency())));
+        assertThat(executor.getCorePoolSize(), is(equalTo(slow.getConcurrency())));
+        assertThat(executor.submit(() -> 1).get(), is(equalTo(1)));
+
+        NetworkExecutor.Metrics metrics = executor.metrics();
+        assertThat(metrics.size(), is(equalTo(3)));
+        assertThat(metrics.getConcurrencyAt(0), is(equalTo(3)));
+        assertThat(metrics.getTierAt(1), is(equalTo(NetworkClass.TIER_FAST)));
+        assertThat(metrics.getConcurrencyAt(2), is(equalTo(slow.getConcurrency())));
+
+        // only recent changes are kept
+        for (int i = 0; i < NetworkExecutor.METRICS_CAPACITY; i++) {
+            executor.resize(i % 2 == 0 ? 2 : 5);
+        }
+        metrics = executor.metrics();
+        assertThat(metrics.size(), is(equalTo(NetworkExecutor.METRICS_CAPACITY)));
+        assertThat(metrics.getTotal(), is(equalTo(3L + NetworkExecutor.METRICS_CAPACITY)));
+        assertThat(metrics.getConcurrencyAt(metrics.size() - 1), is(equalTo(5)));
+        executor.shutdown();
+    }
+
+    @Test
+    public void shouldHoldMonitorUntilNetworkExecutorTerminates() throws Exception {
+        ConnectivityMonitor monitor = new ConnectivityMonitor(Common.Network.getConnectivityManager());
+        NetworkClass wifi = new NetworkClass(NetworkClass.TIER_FAST, 30000, false, true);
+        monitor.publish(new ConnectivityMonitor.Snapshot(true, null, wifi));
+        NetworkExecutor executor = new NetworkExecutor(3);
+        assertThat(executor.attach(monitor), is(equalTo(true)));
+        assertThat(executor.attach(monitor), is(equalTo(false)));
+        assertThat(executor.getMonitor(), is(sameInstance(monitor)));
+        assertThat(executor.getConcurrency(), is(equalTo(wifi.getConcurrency())));
+
+        // held across bursts of work, not per task
+        assertThat(monitor.getReferenceCount(), is(equalTo(1)));
+        assertThat(executor.submit(() -> 1).get(5, TimeUnit.SECONDS), is(equalTo(1)));
+        assertThat(monitor.getReferenceCount(), is(equalTo(1)));
+
+        // released once terminated
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS), is(equalTo(true)));
+        assertThat(monitor.getReferenceCount(), is(equalTo(0)));
+        assertThat(executor.getMonitor(), is(equalTo(null)));
+        assertThat(executor.attach(monitor), is(equalTo(false)));
+    }
+
+    @Test
+    public void shouldReplayOfflineQueueOnReconnect() throws Exception {
+        File file = folder.newFile();
+        ConnectivityMonitor monitor = new ConnectivityMonitor(Common.Network.getConnectivityManager());
+        // held across queue restarts, so published state is kept
+        monitor.acquire();
+        monitor.publish(new ConnectivityMonitor.Snapshot(false, null));
+        List<List<String>> batches = new ArrayList<>();
+        OfflineQueue.Transport transport = batch -> {
+            List<String> values = new ArrayList<>();
+            for (OfflineQueue.Item item : batch) {
+                values.add(item.getPayload(String.class));
+            }
+            batches.add(values);
+            return true;
+        };
+
+        // queued while offline
+        OfflineQueue queue = new OfflineQueue(file, monitor, Runnable::run, transport, 2, 1);
+        queue.start();
+        for (int i = 0; i < 5; i++) {
+            queue.enqueue("note", "note " + i);
+        }
+        assertThat(queue.size(), is(equalTo(5)));
+        assertThat(batches.size(), is(equalTo(0)));
+
+        // survives restart
+        queue.stop();
+        queue = new OfflineQueue(file, monitor, Runnable::run, transport, 2, 1);
+        queue.start();
+        assertThat(queue.size(), is(equalTo(5)));
+
+        // replayed in batches on reconnect
+        monitor.publish(new ConnectivityMonitor.Snapshot(true, null));
+        assertThat(queue.size(), is(equalTo(0)));
+        assertThat(batches.size(), is(equalTo(3)));
+        assertThat(batches.get(0).get(0), is(equalTo("note 0")));
+        assertThat(batches.get(2).get(0), is(equalTo("note 4")));
+
+        // acks are durable
+        queue.stop();
+        queue = new OfflineQueue(file, monitor, Runnable::run, transport, 2, 1);
+        queue.start();
+        assertThat(queue.size(), is(equalTo(0)));
+        queue.stop();
+        monitor.release();
+        assertThat(monitor.isStarted(), is(equalTo(false)));
+    }
+
+    @Test
+    public void shouldKeepOfflineQueueOnFailedDelivery() throws Exception {
+        File file = folder.newFile();
+        ConnectivityMonitor monitor = new ConnectivityMonitor(Common.Network.getConnectivityManager());
+        monitor.publish(new ConnectivityMonitor.Snapshot(true, null));
+        boolean[] reachable = {false};
+        OfflineQueue.Transport transport = batch -> {
+            if (!reachable[0]) {
+                throw new SocketException();
+            }
+            return true;
+        };
+
+        OfflineQueue queue = new OfflineQueue(file, monitor, Runnable::run, transport);
+        queue.start();
+        queue.enqueue("note", "note");
+        assertThat(queue.size(), is(equalTo(1)));
+
+        reachable[0] = true;
+        monitor.publish(new ConnectivityMonitor.Snapshot(false, null));
+        monitor.publish(new ConnectivityMonitor.Snapshot(true, null));
+        assertThat(queue.size(), is(equalTo(0)));
+        queue.stop();
+    }
+
+    @Test
+    public void shouldRetryFailedOfflineBatchWhileConnected() throws Exception {
+        File file = folder.newFile();
+        ConnectivityMonitor monitor = new ConnectivityMonitor(Common.Network.getConnectivityManager());
+        monitor.publish(new ConnectivityMonitor.Snapshot(true, null));
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch delivered = new CountDownLatch(1);
+        OfflineQueue.Transport transport = batch -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new SocketTimeoutException();
+            }
+            delivered.countDown();
+            return true;
+        };
+
+        // failed batch is sent again after backoff, without a connectivity change
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        OfflineQueue queue =
+                new OfflineQueue(file, monitor, Runnable::run, scheduler, transport);
+        queue.start();
+        queue.enqueue("note", "note");
+        assertThat(delivered.await(5, TimeUnit.SECONDS), is(equalTo(true)));
+        assertThat(attempts.get(), is(equalTo(2)));
+        assertThat(queue.size(), is(equalTo(0)));
+        queue.stop();
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void shouldBackoffRetriesWithJitter() {
+        RetryScheduler.Policy policy = new RetryScheduler.Policy(100L, 1000L, 5, 10, 60000L);
+        assertThat(policy.backoffOf(1), is(equalTo(100L)));
+        assertThat(policy.backoffOf(2), is(equalTo(200L)));
+        assertThat(policy.backoffOf(4), is(equalTo(800L)));
+        assertThat(policy.backoffOf(5), is(equalTo(1000L)));
+        assertThat(policy.backoffOf(100), is(equalTo(1000L)));
+
+        RetryScheduler retries = new RetryScheduler(Common.AppExecutors.scheduler(),
+                Runnable::run, Common.Network.monitor(), policy, new Random(42));
+        for (int i = 0; i < 100; i++) {
+            long delay = retries.delayOf(3);
+            assertThat(delay >= 0 && delay < 400L, is(equalTo(true)));
+        }
+    }
+
+    @Test
+    public void shouldRetryNetworkExceptionsWithinBudget() throws Exception {
+        ConnectivityMonitor monitor = new ConnectivityMonitor(Common.Network.getConnectivityManager());
+        monitor.publish(new ConnectivityMonitor.Snapshot(true, null));
+        RetryScheduler.Policy policy = new RetryScheduler.Policy(1L, 5L, 10, 2, 60000L);
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        RetryScheduler retries = new RetryScheduler(scheduler, Runnable::run, monitor, policy);
+
+        // retried until budget is exhausted
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch failed = new CountDownLatch(1);
+        retries.submit("sync", () -> {
+            runs.incrementAndGet();
+            throw new SocketTimeoutException();
+        }, newRetryCallback(null, failed));
+        assertThat(failed.await(5, TimeUnit.SECONDS), is(equalTo(true)));
+        assertThat(runs.get(), is(equalTo(3)));
+
+        // not retried on other exceptions
+        AtomicInteger otherRuns = new AtomicInteger();
+        CountDownLatch otherFailed = new CountDownLatch(1);
+        retries.submit("other", () -> {
+            otherRuns.incrementAndGet();
+            throw new IllegalStateException();
+        }, newRetryCallback(null, otherFailed));
+        assertThat(otherFailed.await(5, TimeUnit.SECONDS), is(equalTo(true)));
+        assertThat(otherRuns.get(), is(equalTo(1)));
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void shouldEvictRefilledRetryBudgets() throws Exception {
+        ConnectivityMonitor monitor = new ConnectivityMonitor(Common.Network.getConnectivityManager());
+        monitor.publish(new ConnectivityMonitor.Snapshot(true, null));
+        RetryScheduler.Policy policy = new RetryScheduler.Policy(1L, 5L, 2, 10, 1000L);
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        RetryScheduler retries = new RetryScheduler(scheduler, Runnable::run, monitor, policy);
+        RetryScheduler.Task task = () -> {
+            throw new SocketTimeoutException();
+        };
+
+        for (int i = 0; i < 100; i++) {
+            retries.submit("stale " + i, task, null);
+        }
+        assertThat(retries.budgetCount(), is(equalTo(100)));
+
+        // budgets idle for a whole window are full again, so dropped
+        Robolectric.getForegroundThreadScheduler().advanceBy(1000L, TimeUnit.MILLISECONDS);
+        for (int i = 0; i < 30; i++) {
+            retries.submit("fresh " + i, task, null);
+        }
+        assertThat(retries.budgetCount(), is(equalTo(30)));
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void shouldParkRetriesWhileOffline() throws Exception {
+        ConnectivityMonitor monitor = new ConnectivityMonitor(Common.Network.getConnectivityManager());
+        monitor.publish(new ConnectivityMonitor.Snapshot(false, null));
+        RetryScheduler.Policy policy = new RetryScheduler.Policy(1L, 5L, 5, 10, 60000L);
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        RetryScheduler retries = new RetryScheduler(scheduler, Runnable::run, monitor, policy);
+
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch succeeded = new CountDownLatch(1);
+        retries.submit("sync", () -> {
+            if (runs.incrementAndGet() == 1) {
+                throw new Exception(new UnknownHostException());
+            }
+        }, newRetryCallback(succeeded, null));
+        assertThat(runs.get(), is(equalTo(1)));
+        assertThat(retries.parkedCount(), is(equalTo(1)));
+        assertThat(monitor.getReferenceCount(), is(equalTo(1)));
+
+        monitor.publish(new ConnectivityMonitor.Snapshot(true, null));
+        assertThat(succeeded.await(5, TimeUnit.SECONDS), is(equalTo(true)));
+        assertThat(runs.get(), is(equalTo(2)));
+        assertThat(retries.parkedCount(), is(equalTo(0)));
+        assertThat(monitor.getReferenceCount(), is(equalTo(0)));
+        scheduler.shutdown();
+    }
+
+    private RetryScheduler.Callback newRetryCallback(CountDownLatch succeeded, CountDownLatch failed) {
+        return new RetryScheduler.Callback() {
+            @Override
+            public void onSuccess() {
+                if (succeeded != null) {
+                    succeeded.countDown();
+                }
+            }
+
+            @Override
+            public void onFailure(@NonNull Throwable t) {
+                if (failed != null) {
+                    failed.countDown();
+                }
+            }
+        };
+    }
+
+    @Test
+    public void shouldCheckForNetworkExceptionCauses() {
+        Throwable wrapped = new RuntimeException(new ExecutionException(new SocketException()));
+        assertThat(Common.Network.isNetworkException(wrapped), is(equalTo(true)));
+
+        Exception first = new Exception();
+        Exception second = new Exception(first);
+        first.initCause(second);
+        assertThat(Common.Network.isNetworkException(first), is(equalTo(false)));
+    }
+
     @Test
     public void shouldCheckForNetworkException() {
         Boolean isNetworkException = Common.Network.isNetworkException(new SocketException());
@@ -520,6 +1771,76 @@ public class CommonTest {
         Executor executor = Common.AppExecutors.mainThread();
     }
 
+    // Fast Tests
+
+    @Test
+    public void shouldProvidePrimitiveFastPaths() {
+        Date today = Common.Dates.today();
+        Date yesterday = Common.Dates.yesterday();
+        assertThat(Common.Fast.isEmpty((String) null), is(equalTo(true)));
+        assertThat(Common.Fast.isEmpty("1"), is(equalTo(false)));
+        assertThat(Common.Fast.areEmpty("1", ""), is(equalTo(true)));
+        assertThat(Common.Fast.isEmpty(Common.Value.listOf("1")), is(equalTo(false)));
+        assertThat(Common.Fast.isBefore(today, yesterday), is(equalTo(true)));
+        assertThat(Common.Fast.isAfter(today, yesterday), is(equalTo(false)));
+        assertThat(Common.Fast.isBeforeToday(yesterday), is(equalTo(true)));
+        assertThat(Common.Fast.yearOf(today), is(equalTo(Common.Dates.yearOf(today))));
+        assertThat(Common.Fast.dayOfWeekOf(today), is(equalTo(Common.Dates.dayOfWeekOf(today))));
+    }
+
+    @Test
+    public void shouldNotAllocateOnPrimitiveFastPaths() {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        Date base = new Date(1000L);
+        Date checked = new Date(0L);
+        String[] strings = new String[]{"1", "2", "3"};
+        List<String> list = Common.Value.listOf(strings);
+        int calls = 10000;
+
+        // warm up, so class loading and compilation are not measured
+        int truths = 0;
+        for (int i = 0; i < calls; i++) {
+            truths += fastCalls(base, checked, strings, list);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long start = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < calls; i++) {
+            truths += fastCalls(base, checked, strings, list);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - start;
+
+        // measurement itself may allocate few bytes, never one per call
+        assertThat(truths, is(equalTo(calls * 2 * 3)));
+        assertThat(allocated / calls, is(equalTo(0L)));
+
+        // date paths share cached default timezone, never a copy per call
+        start = threads.getThreadAllocatedBytes(threadId);
+        long fields = 0;
+        for (int i = 0; i < calls; i++) {
+            fields += Common.Fast.yearOf(base) + Common.Fast.hourOfDayOf(base);
+        }
+        allocated = threads.getThreadAllocatedBytes(threadId) - start;
+        assertThat(fields > 0, is(equalTo(true)));
+        assertThat(allocated / calls, is(equalTo(0L)));
+    }
+
+    private static int fastCalls(Date base, Date checked, String[] strings, List<String> list) {
+        int truths = 0;
+        truths += Common.Fast.isEmpty("") ? 1 : 0;
+        truths += Common.Fast.areEmpty(strings) ? 1 : 0;
+        truths += Common.Fast.isEmpty(list) ? 1 : 0;
+        truths += Common.Fast.isBefore(base, checked) ? 1 : 0;
+        truths += Common.Fast.isAfter(base, checked) ? 1 : 0;
+        truths += Common.Fast.isAfter(checked, base) ? 1 : 0;
+        truths += Common.Fast.yearOf(base) > 0 ? 1 : 0;
+        truths += Common.Fast.hourOfDayOf(base) >= 0 ? 1 : 0;
+        return truths;
+    }
+
     // Resources Test
 
     @Test
@@ -671,6 +1992,18 @@ public class CommonTest {
         assertThat(Common.Value.toJson(queryMap), is(equalTo("{\"filter\":\"{\\\"qty\\\":{\\\"$lt\\\":12},\\\"price\\\":{\\\"$eq\\\":1.28}}\",\"limit\":\"10\",\"page\":\"1\"}")));
     }
 
+    @Test
+    public void shouldProvidePrimitiveInFilterQuery() {
+        Query query = Query.create(1L);
+        query.filter(
+                Query.Filter.$in("id", Common.Value.longSetOf(1L)),
+                Query.Filter.$nin("qty", Common.Value.longSetOf(0L))
+        );
+        Map<String, String> queryMap = query.toQueryMap();
+        assertThat(queryMap, is(not(equalTo(null))));
+        assertThat(Common.Value.toJson(queryMap), is(equalTo("{\"filter\":\"{\\\"id\\\":{\\\"$in\\\":[1]},\\\"qty\\\":{\\\"$nin\\\":[0]}}\",\"limit\":\"10\",\"page\":\"1\"}")));
+    }
+
     @Test
     public void shouldProvideLogicalFilterQuery() {
         Query query = Query.create(1L);